@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.BytesOf;
+import org.cactoos.io.InputOf;
+import org.cactoos.text.TextOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link BytesOf} and {@link TextOf} reading a file.
+ *
+ * @since 0.37
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms8g", "-Xmx8g" })
+public class BytesOfBench {
+
+    /**
+     * Size of the file, in bytes.
+     */
+    @Param({ "1024", "1048576", "67108864", "1073741824" })
+    public int size;
+
+    /**
+     * The file.
+     */
+    private Path file;
+
+    /**
+     * Create the file.
+     * @throws Exception If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.file = new Sample(this.size).file();
+    }
+
+    /**
+     * Delete the file.
+     * @throws Exception If fails
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.delete(this.file);
+    }
+
+    /**
+     * Read it with plain JDK.
+     * @return Content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] baseline() throws Exception {
+        return Files.readAllBytes(this.file);
+    }
+
+    /**
+     * Read it with {@link BytesOf}.
+     * @return Content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] bytesOf() throws Exception {
+        return new BytesOf(this.file).asBytes();
+    }
+
+    /**
+     * Read it with {@link BytesOf} over an {@link InputOf}.
+     * @return Content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] bytesOfInput() throws Exception {
+        return new BytesOf(new InputOf(this.file)).asBytes();
+    }
+
+    /**
+     * Read it with {@link TextOf}.
+     * @return Content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String textOf() throws Exception {
+        return new TextOf(this.file).asString();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.SameContent;
+import org.cactoos.scalar.Equality;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Equality} and {@link SameContent}, comparing
+ * two equal arrays, which is the slowest case for both.
+ *
+ * <p>The {@code words} benchmark is the way both classes compared
+ * the bytes before, eight at once through
+ * {@link ByteBuffer#getLong(int)}, kept here to compare with. On Java 8
+ * it is slower than the plain loop of bytes they use now.</p>
+ *
+ * @since 0.37
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EqualityBench {
+
+    /**
+     * Length of the arrays, in bytes.
+     */
+    @Param({ "16", "1024", "65536" })
+    public int size;
+
+    /**
+     * Left array.
+     */
+    private byte[] left;
+
+    /**
+     * Right array, equal to the left one.
+     */
+    private byte[] right;
+
+    /**
+     * Create the arrays.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.left = new byte[this.size];
+        new Random(this.size).nextBytes(this.left);
+        this.right = this.left.clone();
+    }
+
+    /**
+     * Compare them with plain JDK.
+     * @return TRUE if equal
+     */
+    @Benchmark
+    public boolean baseline() {
+        return Arrays.equals(this.left, this.right);
+    }
+
+    /**
+     * Compare them with {@link Equality}.
+     * @return Zero if equal
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public int equality() throws Exception {
+        final byte[] lft = this.left;
+        final byte[] rght = this.right;
+        return new Equality<>(() -> lft, () -> rght).value();
+    }
+
+    /**
+     * Compare them with {@link SameContent}.
+     * @return TRUE if equal
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public boolean sameContent() throws Exception {
+        return new SameContent(
+            new InputOf(this.left), new InputOf(this.right)
+        ).value();
+    }
+
+    /**
+     * Compare them eight bytes at once.
+     * @return TRUE if equal
+     */
+    @Benchmark
+    public boolean words() {
+        final ByteBuffer lft = ByteBuffer.wrap(this.left);
+        final ByteBuffer rght = ByteBuffer.wrap(this.right);
+        int idx = 0;
+        while (idx <= this.size - Long.BYTES
+            && lft.getLong(idx) == rght.getLong(idx)) {
+            idx += Long.BYTES;
+        }
+        while (idx < this.size && this.left[idx] == this.right[idx]) {
+            ++idx;
+        }
+        return idx == this.size;
+    }
+}
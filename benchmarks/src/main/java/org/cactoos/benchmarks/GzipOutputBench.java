@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.cactoos.io.DeadOutput;
+import org.cactoos.io.DeadOutputStream;
+import org.cactoos.io.GzipOutput;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.LengthOf;
+import org.cactoos.io.TeeInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link GzipOutput}, single-threaded and parallel.
+ *
+ * @since 0.37
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GzipOutputBench {
+
+    /**
+     * Size of the file, in bytes.
+     */
+    @Param({ "1048576", "67108864", "268435456" })
+    public long size;
+
+    /**
+     * Amount of threads for the parallel mode.
+     */
+    @Param({ "2", "4", "8" })
+    public int threads;
+
+    /**
+     * The source file.
+     */
+    private Path source;
+
+    /**
+     * The executor.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Create the file and the executor.
+     * @throws Exception If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.source = new Sample(this.size).file();
+        this.executor = Executors.newFixedThreadPool(this.threads);
+    }
+
+    /**
+     * Delete the file and stop the executor.
+     * @throws Exception If fails
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.executor.shutdown();
+        Files.delete(this.source);
+    }
+
+    /**
+     * Compress it with plain JDK.
+     * @return Amount of bytes compressed
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long baseline() throws Exception {
+        // @checkstyle MagicNumber (2 lines)
+        try (final OutputStream out = new GZIPOutputStream(
+            new DeadOutputStream(), 16 << 10
+        )) {
+            return Files.copy(this.source, out);
+        }
+    }
+
+    /**
+     * Compress it with single-threaded {@link GzipOutput}.
+     * @return Amount of bytes compressed
+     */
+    @Benchmark
+    public long gzipOutput() {
+        return new LengthOf(
+            new TeeInput(
+                new InputOf(this.source),
+                new GzipOutput(new DeadOutput())
+            )
+        ).longValue();
+    }
+
+    /**
+     * Compress it with parallel {@link GzipOutput}.
+     * @return Amount of bytes compressed
+     */
+    @Benchmark
+    public long parallelGzipOutput() {
+        return new LengthOf(
+            new TeeInput(
+                new InputOf(this.source),
+                new GzipOutput(new DeadOutput(), this.executor)
+            )
+        ).longValue();
+    }
+}
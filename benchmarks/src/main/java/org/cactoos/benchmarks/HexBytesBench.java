@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Text;
+import org.cactoos.bytes.HexBytes;
+import org.cactoos.io.BytesOf;
+import org.cactoos.iterator.Mapped;
+import org.cactoos.text.HexOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link HexBytes}, decoding hex IDs.
+ *
+ * <p>The {@code boxed} benchmark is the way {@link HexBytes} decoded
+ * the text before, through a stream of boxed chars and
+ * {@link Mapped}, kept here to compare with.</p>
+ *
+ * @since 0.37
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HexBytesBench {
+
+    /**
+     * Length of the decoded ID, in bytes.
+     */
+    @Param({ "16", "32", "1024" })
+    public int size;
+
+    /**
+     * The hexadecimal text.
+     */
+    private String hex;
+
+    /**
+     * The hexadecimal text, as a {@link Text}.
+     */
+    private Text text;
+
+    /**
+     * Create the text.
+     * @throws Exception If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final byte[] bytes = new byte[this.size];
+        new Random(this.size).nextBytes(bytes);
+        this.hex = new HexOf(new BytesOf(bytes)).asString();
+        final String str = this.hex;
+        this.text = () -> str;
+    }
+
+    /**
+     * Decode it with plain JDK.
+     * @return The bytes
+     */
+    @Benchmark
+    public byte[] baseline() {
+        final byte[] result = new byte[this.hex.length() / 2];
+        for (int index = 0; index < result.length; ++index) {
+            result[index] = (byte) (
+                Character.digit(this.hex.charAt(index << 1), 16) << 4
+                    | Character.digit(this.hex.charAt((index << 1) + 1), 16)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Decode it with {@link HexBytes}.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] hexBytes() throws Exception {
+        return new HexBytes(this.text).asBytes();
+    }
+
+    /**
+     * Decode it through boxed chars, as {@link HexBytes} did before.
+     * @return The bytes
+     */
+    @Benchmark
+    public byte[] boxed() {
+        final Iterator<Integer> iter = new Mapped<>(
+            c -> {
+                final int result = Character.digit(c, 16);
+                if (result == -1) {
+                    throw new IOException("Unexpected character");
+                }
+                return result;
+            },
+            this.hex.chars().mapToObj(c -> (char) c).iterator()
+        );
+        final byte[] result = new byte[this.hex.length() / 2];
+        for (int index = 0; index < result.length; ++index) {
+            result[index] = (byte) ((iter.next() << 4) + iter.next());
+        }
+        return result;
+    }
+}
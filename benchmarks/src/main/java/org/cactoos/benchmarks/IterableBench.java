@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.Sorted;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for a chain of {@link Sorted}, {@link Mapped}
+ * and {@link Filtered}.
+ *
+ * @since 0.37
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IterableBench {
+
+    /**
+     * Amount of elements.
+     */
+    @Param({ "1000", "1000000" })
+    public int size;
+
+    /**
+     * The elements.
+     */
+    private List<Integer> items;
+
+    /**
+     * Create the elements.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(this.size);
+        this.items = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.items.add(random.nextInt());
+        }
+    }
+
+    /**
+     * Sort, map and filter with plain JDK.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void baseline(final Blackhole hole) {
+        final List<Integer> sorted = new ArrayList<>(this.items);
+        Collections.sort(sorted);
+        for (final Integer item : sorted) {
+            final long mapped = (long) item * 2L;
+            if (mapped % 3L == 0L) {
+                hole.consume(mapped);
+            }
+        }
+    }
+
+    /**
+     * Sort, map and filter with Cactoos.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void chain(final Blackhole hole) {
+        final Iterable<Long> chain = new Filtered<>(
+            mapped -> mapped % 3L == 0L,
+            new Mapped<>(
+                item -> (long) item * 2L,
+                new Sorted<>(this.items)
+            )
+        );
+        for (final Long item : chain) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Iterate {@link Mapped} only.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void mapped(final Blackhole hole) {
+        for (final Long item : new Mapped<>(
+            item -> (long) item * 2L, this.items
+        )) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Iterate {@link Filtered} only.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void filtered(final Blackhole hole) {
+        for (final Integer item : new Filtered<>(
+            item -> item % 3 == 0, this.items
+        )) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Iterate {@link Sorted} only.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void sorted(final Blackhole hole) {
+        for (final Integer item : new Sorted<>(this.items)) {
+            hole.consume(item);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Temporary file with random printable content, for benchmarks.
+ *
+ * <p>The content is deterministic, so all runs read the same bytes.</p>
+ *
+ * @since 0.37
+ */
+final class Sample {
+
+    /**
+     * Size of the file, in bytes.
+     */
+    private final long size;
+
+    /**
+     * Ctor.
+     * @param bytes Size of the file, in bytes
+     */
+    Sample(final long bytes) {
+        this.size = bytes;
+    }
+
+    /**
+     * Create a new file.
+     * @return Path of it, the caller has to delete it
+     * @throws Exception If fails
+     */
+    public Path file() throws Exception {
+        final Path path = Files.createTempFile("cactoos-bench", ".bin");
+        final Random random = new Random(this.size);
+        // @checkstyle MagicNumber (1 line)
+        final byte[] chunk = new byte[64 << 10];
+        try (final OutputStream out = Files.newOutputStream(path)) {
+            long left = this.size;
+            while (left > 0L) {
+                for (int idx = 0; idx < chunk.length; ++idx) {
+                    // @checkstyle MagicNumber (1 line)
+                    chunk[idx] = (byte) (' ' + random.nextInt(94));
+                }
+                final int len = (int) Math.min(left, (long) chunk.length);
+                out.write(chunk, 0, len);
+                left -= (long) len;
+            }
+        }
+        return path;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.func.StickyFunc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link StickyFunc} with different hit ratios.
+ *
+ * <p>A hit is a call with one of the keys already in the cache,
+ * a miss is a call with a key never seen before. The cache
+ * is re-created before every iteration, to keep its size under
+ * control.</p>
+ *
+ * @since 0.37
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StickyFuncBench {
+
+    /**
+     * Amount of keys already in the cache.
+     */
+    private static final int HOT = 1024;
+
+    /**
+     * Length of the pre-computed sequence of calls.
+     */
+    private static final int CALLS = 1 << 16;
+
+    /**
+     * Percentage of cache hits.
+     */
+    @Param({ "0", "50", "90", "100" })
+    public int hits;
+
+    /**
+     * The original function.
+     */
+    private final Func<Long, Long> origin = key -> key * 31L + 7L;
+
+    /**
+     * Which calls are hits.
+     */
+    private boolean[] sequence;
+
+    /**
+     * The cache.
+     */
+    private Func<Long, Long> sticky;
+
+    /**
+     * Position in the sequence.
+     */
+    private int position;
+
+    /**
+     * The key for the next miss.
+     */
+    private long fresh;
+
+    /**
+     * Decide which calls are hits.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(this.hits);
+        this.sequence = new boolean[StickyFuncBench.CALLS];
+        for (int idx = 0; idx < this.sequence.length; ++idx) {
+            // @checkstyle MagicNumber (1 line)
+            this.sequence[idx] = random.nextInt(100) < this.hits;
+        }
+    }
+
+    /**
+     * Create and warm up the cache.
+     * @throws Exception If fails
+     */
+    @Setup(Level.Iteration)
+    public void warm() throws Exception {
+        this.sticky = new StickyFunc<>(this.origin);
+        for (long key = 0L; key < (long) StickyFuncBench.HOT; ++key) {
+            this.sticky.apply(key);
+        }
+        this.fresh = (long) StickyFuncBench.HOT;
+        this.position = 0;
+    }
+
+    /**
+     * Call the function directly.
+     * @return Result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Long baseline() throws Exception {
+        return this.origin.apply(this.key());
+    }
+
+    /**
+     * Call it through {@link StickyFunc}.
+     * @return Result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Long sticky() throws Exception {
+        return this.sticky.apply(this.key());
+    }
+
+    /**
+     * The key for the next call.
+     * @return Key
+     */
+    private long key() {
+        final long key;
+        if (this.sequence[this.position]) {
+            key = (long) (this.position % StickyFuncBench.HOT);
+        } else {
+            key = this.fresh;
+            ++this.fresh;
+        }
+        this.position = (this.position + 1) % this.sequence.length;
+        return key;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.AvgOf;
+import org.cactoos.scalar.SumOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link SumOf} and {@link AvgOf}.
+ *
+ * @since 0.37
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SumOfBench {
+
+    /**
+     * Amount of numbers.
+     */
+    @Param({ "1000", "1000000" })
+    public int size;
+
+    /**
+     * The numbers.
+     */
+    private List<Number> numbers;
+
+    /**
+     * The numbers, as scalars.
+     */
+    private List<Scalar<Number>> scalars;
+
+    /**
+     * Create the numbers.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(this.size);
+        this.numbers = new ArrayList<>(this.size);
+        this.scalars = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            final Long number = random.nextLong();
+            this.numbers.add(number);
+            this.scalars.add(() -> number);
+        }
+    }
+
+    /**
+     * Sum with plain JDK.
+     * @return Sum
+     */
+    @Benchmark
+    public double baseline() {
+        double sum = 0.0;
+        for (final Number number : this.numbers) {
+            sum += number.doubleValue();
+        }
+        return sum;
+    }
+
+    /**
+     * Sum with {@link SumOf}.
+     * @return Sum
+     */
+    @Benchmark
+    public double sumOf() {
+        return new SumOf(this.numbers).doubleValue();
+    }
+
+    /**
+     * Average with {@link AvgOf}.
+     * @return Average
+     */
+    @Benchmark
+    public double avgOf() {
+        return new AvgOf(this.scalars).doubleValue();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.LengthOf;
+import org.cactoos.io.TeeInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link TeeInput} copying a file to a file.
+ *
+ * @since 0.37
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TeeInputBench {
+
+    /**
+     * Size of the file, in bytes.
+     */
+    @Param({ "1024", "1048576", "67108864", "1073741824" })
+    public long size;
+
+    /**
+     * The source file.
+     */
+    private Path source;
+
+    /**
+     * The target file.
+     */
+    private Path target;
+
+    /**
+     * Create the files.
+     * @throws Exception If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.source = new Sample(this.size).file();
+        this.target = Files.createTempFile("cactoos-bench", ".copy");
+    }
+
+    /**
+     * Delete the files.
+     * @throws Exception If fails
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.delete(this.source);
+        Files.delete(this.target);
+    }
+
+    /**
+     * Copy it with plain JDK.
+     * @return Target file
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Path baseline() throws Exception {
+        return Files.copy(
+            this.source, this.target, StandardCopyOption.REPLACE_EXISTING
+        );
+    }
+
+    /**
+     * Copy it with {@link TeeInput}.
+     * @return Amount of bytes copied
+     */
+    @Benchmark
+    public long teeInput() {
+        return new LengthOf(new TeeInput(this.source, this.target))
+            .longValue();
+    }
+
+    /**
+     * Copy it with {@link TeeInput}, from {@link java.io.File}
+     * to {@link java.io.File}.
+     * @return Amount of bytes copied
+     */
+    @Benchmark
+    public long teeInputFiles() {
+        return new LengthOf(
+            new TeeInput(this.source.toFile(), this.target.toFile())
+        ).longValue();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Bytes, which can be seen through a {@link ByteBuffer}, without
+ * copying them to a new array.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see org.cactoos.io.BufferOf
+ * @since 0.37
+ */
+public interface BufferBytes extends Bytes {
+
+    /**
+     * Read-only view of the bytes.
+     *
+     * <p>The buffer may be heap, direct or memory mapped. Its position
+     * and limit are independent from the ones of other views.</p>
+     *
+     * @return The buffer, from its position to its limit
+     * @throws Exception If fails
+     */
+    ByteBuffer asBuffer() throws Exception;
+}
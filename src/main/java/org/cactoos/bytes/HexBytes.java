@@ -25,20 +25,43 @@
 package org.cactoos.bytes;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.Iterator;
 import org.cactoos.Bytes;
 import org.cactoos.Text;
-import org.cactoos.iterator.Mapped;
 import org.cactoos.text.FormattedText;
 
 /**
  * Decodes origin {@link Text} using the hexadecimal encoding scheme.
  *
+ * <p>Every char is decoded by a lookup in a table, nothing is allocated
+ * except the result.</p>
+ *
  * @since 0.30
  * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class HexBytes implements Bytes {
+
+    /**
+     * Values of the hexadecimal digits by their chars, -1 for other chars.
+     */
+    private static final byte[] DIGITS = {
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        0, 1, 2, 3, 4, 5, 6, 7, 8, 9, -1, -1, -1, -1, -1, -1,
+        -1, 10, 11, 12, 13, 14, 15, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, 10, 11, 12, 13, 14, 15, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+    };
+
     /**
      * Origin hexadecimal text.
      */
@@ -59,33 +82,35 @@ public final class HexBytes implements Bytes {
         if ((hex.length() & 1) == 1) {
             throw new IOException("Length of hexadecimal text is odd");
         }
-        final Iterator<Integer> iter = new Mapped<>(
-            c -> {
-                final int result = Character.digit(c, 16);
-                if (result == -1) {
-                    throw new IOException(
-                        new FormattedText(
-                            "Unexpected character '%c'",
-                            c
-                        ).asString()
-                    );
-                }
-                return result;
-            },
-            hex.chars().mapToObj(c -> (char) c).iterator()
-        );
-        final byte[] result = new byte[hex.length() / 2];
-        int index = 0;
-        while (index < hex.length()) {
-            try {
-                final int most = iter.next();
-                final int less = iter.next();
-                result[index >>> 1] = (byte) ((most << 4) + less);
-                index += 2;
-            } catch (final UncheckedIOException ex) {
-                throw ex.getCause();
-            }
+        final byte[] result = new byte[hex.length() >>> 1];
+        for (int index = 0; index < result.length; ++index) {
+            result[index] = (byte) (
+                this.digit(hex, index << 1) << 4
+                    | this.digit(hex, (index << 1) + 1)
+            );
         }
         return result;
     }
+
+    /**
+     * Value of the hexadecimal digit.
+     * @param hex The text
+     * @param index Position of the digit in the text
+     * @return The value
+     * @throws Exception If it's not a hexadecimal digit
+     */
+    private int digit(final String hex, final int index) throws Exception {
+        final char chr = hex.charAt(index);
+        int value = -1;
+        if (chr < HexBytes.DIGITS.length) {
+            value = HexBytes.DIGITS[chr];
+        }
+        if (value < 0) {
+            throw new IOException(
+                new FormattedText("Unexpected character '%c'", chr)
+                    .asString()
+            );
+        }
+        return value;
+    }
 }
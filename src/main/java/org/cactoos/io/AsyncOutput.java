@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+import org.cactoos.Output;
+
+/**
+ * Output, which is written in the background.
+ *
+ * <p>Small writes are copied into a buffer and the background thread
+ * writes them to the original output in large batches: when half of
+ * the buffer is filled, when the oldest bytes in it waited for the
+ * interval, or on {@code flush()}. Writing blocks only when the
+ * background thread can't keep up and both buffers are full:</p>
+ *
+ * <pre> try (OutputStream out = new AsyncOutput(
+ *   new OutputTo(file), 64 &lt;&lt; 10, 100L, true
+ * ).stream()) {
+ *   // many small writes
+ * }</pre>
+ *
+ * <p>{@code flush()} and {@code close()} return only when everything
+ * written before is written to the original output. If the output is
+ * durable and goes to a file, every batch is synced to the storage
+ * device too, so the bytes survive a crash once {@code close()}
+ * returns. An error of the background thread is thrown by the next
+ * write, flush or close.</p>
+ *
+ * <p>By default, every stream gets its own daemon thread, which ends
+ * when the stream is closed. The original stream is written and closed
+ * by that thread only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class AsyncOutput implements Output {
+
+    /**
+     * The output.
+     */
+    private final Output origin;
+
+    /**
+     * Size of a buffer.
+     */
+    private final int size;
+
+    /**
+     * Max time the bytes wait in the buffer, in milliseconds.
+     */
+    private final long interval;
+
+    /**
+     * Whether to sync every batch written.
+     */
+    private final boolean durable;
+
+    /**
+     * Where to run the background writing.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    public AsyncOutput(final Output output) {
+        // @checkstyle MagicNumber (1 line)
+        this(output, 64 << 10, 100L);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param max Size of a buffer
+     * @param millis Max time the bytes wait in the buffer, in milliseconds
+     */
+    public AsyncOutput(final Output output, final int max,
+        final long millis) {
+        this(output, max, millis, false);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param max Size of a buffer
+     * @param millis Max time the bytes wait in the buffer, in milliseconds
+     * @param sync Whether to sync every batch written to a file
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public AsyncOutput(final Output output, final int max,
+        final long millis, final boolean sync) {
+        this(
+            output, max, millis, sync,
+            task -> {
+                final Thread thread = new Thread(task, "cactoos-async");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param max Size of a buffer
+     * @param millis Max time the bytes wait in the buffer, in milliseconds
+     * @param sync Whether to sync every batch written to a file
+     * @param exec Where to run the background writing, it must not
+     *  run it in the caller's thread
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public AsyncOutput(final Output output, final int max,
+        final long millis, final boolean sync, final Executor exec) {
+        this.origin = output;
+        this.size = max;
+        this.interval = millis;
+        this.durable = sync;
+        this.executor = exec;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        if (this.size <= 0 || this.interval < 0L) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The buffer size %d and the interval %d are wrong",
+                    this.size, this.interval
+                )
+            );
+        }
+        final AsyncOutputStream stream = new AsyncOutputStream(
+            this.origin.stream(), this.size, this.interval, this.durable
+        );
+        this.executor.execute(stream::writeBehind);
+        return stream;
+    }
+}
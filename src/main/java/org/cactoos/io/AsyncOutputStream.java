@@ -0,0 +1,330 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Output stream, which writes to the original stream in the background.
+ *
+ * <p>The bytes written are copied into a buffer, and the background
+ * thread writes the whole buffer to the original stream at once, when it
+ * is half full, when the oldest bytes in it waited for the interval,
+ * or on {@link #flush()} and {@link #close()}. Meanwhile, the bytes are
+ * copied into the second buffer. When the second buffer is full too,
+ * writing waits for the background thread.</p>
+ *
+ * <p>If the stream is durable and the original stream is a
+ * {@link FileOutputStream}, every buffer written is synced to the
+ * storage device. {@link #close()} waits until everything is written,
+ * synced and the original stream is closed. An error of the background
+ * thread is thrown by the next call of any method.</p>
+ *
+ * <p>This class is for internal use only. Use {@link AsyncOutput}
+ * instead.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyFields")
+final class AsyncOutputStream extends OutputStream {
+
+    /**
+     * The original stream.
+     */
+    private final OutputStream target;
+
+    /**
+     * Max time the bytes wait in the buffer, in nanoseconds.
+     */
+    private final long interval;
+
+    /**
+     * Whether to sync every buffer written.
+     */
+    private final boolean durable;
+
+    /**
+     * The lock.
+     */
+    private final Object lock;
+
+    /**
+     * Buffer for {@link #write(int)}.
+     */
+    private final byte[] single;
+
+    /**
+     * The buffer being filled.
+     */
+    private byte[] pending;
+
+    /**
+     * Amount of bytes in the buffer being filled.
+     */
+    private int count;
+
+    /**
+     * The buffer to fill next.
+     */
+    private byte[] spare;
+
+    /**
+     * When the first bytes came into the buffer being filled,
+     * in nanoseconds.
+     */
+    private long since;
+
+    /**
+     * Whether the buffer is being written by the background thread.
+     */
+    private boolean writing;
+
+    /**
+     * Whether the buffer has to be written right away.
+     */
+    private boolean urgent;
+
+    /**
+     * Whether the stream is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Whether the background thread is done.
+     */
+    private boolean done;
+
+    /**
+     * The error of the background thread.
+     */
+    private Throwable error;
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param size Size of a buffer
+     * @param millis Max time the bytes wait in the buffer, in milliseconds
+     * @param sync Whether to sync every buffer written
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    AsyncOutputStream(final OutputStream stream, final int size,
+        final long millis, final boolean sync) {
+        super();
+        this.target = stream;
+        this.interval = TimeUnit.MILLISECONDS.toNanos(millis);
+        this.durable = sync;
+        this.lock = new Object();
+        this.pending = new byte[size];
+        this.spare = new byte[size];
+        this.single = new byte[1];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        synchronized (this.lock) {
+            this.single[0] = (byte) data;
+            this.write(this.single, 0, 1);
+        }
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        synchronized (this.lock) {
+            int pos = off;
+            final int end = off + len;
+            while (pos < end) {
+                this.check();
+                if (this.count == this.pending.length) {
+                    this.urgent = true;
+                    this.lock.notifyAll();
+                    this.await();
+                } else {
+                    if (this.count == 0) {
+                        this.since = System.nanoTime();
+                    }
+                    final int chunk = Math.min(
+                        end - pos, this.pending.length - this.count
+                    );
+                    System.arraycopy(buf, pos, this.pending, this.count, chunk);
+                    this.count += chunk;
+                    pos += chunk;
+                    if (this.count == chunk
+                        || this.count >= this.pending.length >> 1) {
+                        this.lock.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (this.lock) {
+            this.check();
+            this.urgent = true;
+            this.lock.notifyAll();
+            while ((this.count > 0 || this.writing) && !this.done) {
+                this.await();
+            }
+            this.check();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.lock) {
+            this.closed = true;
+            this.lock.notifyAll();
+            while (!this.done) {
+                this.await();
+            }
+            if (this.error != null) {
+                throw new IOException("Can't write behind", this.error);
+            }
+        }
+    }
+
+    /**
+     * Write the buffers to the original stream, till this stream
+     * is closed.
+     *
+     * <p>It has to run in a thread other than the writers' ones.</p>
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    void writeBehind() {
+        try {
+            boolean last = false;
+            while (!last) {
+                final byte[] data;
+                final int len;
+                synchronized (this.lock) {
+                    this.ready();
+                    data = this.pending;
+                    len = this.count;
+                    last = this.closed;
+                    this.pending = this.spare;
+                    this.count = 0;
+                    this.urgent = false;
+                    this.writing = true;
+                    this.lock.notifyAll();
+                }
+                this.target.write(data, 0, len);
+                this.target.flush();
+                if (this.durable && this.target instanceof FileOutputStream) {
+                    ((FileOutputStream) this.target).getFD().sync();
+                }
+                synchronized (this.lock) {
+                    this.spare = data;
+                    this.writing = false;
+                    this.lock.notifyAll();
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.fail(new InterruptedIOException(ex.getMessage()));
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Throwable ex) {
+            this.fail(ex);
+        } finally {
+            try {
+                this.target.close();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Throwable ex) {
+                this.fail(ex);
+            }
+            synchronized (this.lock) {
+                this.done = true;
+                this.writing = false;
+                this.lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Wait until the buffer has to be written.
+     * @throws InterruptedException If interrupted
+     */
+    private void ready() throws InterruptedException {
+        while (!this.closed && !this.urgent
+            && this.count < this.pending.length >> 1) {
+            if (this.count == 0) {
+                this.lock.wait();
+            } else {
+                final long left = this.interval
+                    - (System.nanoTime() - this.since);
+                if (left <= 0L) {
+                    break;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this.lock, left);
+            }
+        }
+    }
+
+    /**
+     * Remember the first error of the background thread.
+     * @param ex The error
+     */
+    private void fail(final Throwable ex) {
+        synchronized (this.lock) {
+            if (this.error == null) {
+                this.error = ex;
+            }
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Make sure the stream can be written.
+     * @throws IOException If it can't
+     */
+    private void check() throws IOException {
+        if (this.error != null) {
+            throw new IOException("Can't write behind", this.error);
+        }
+        if (this.closed || this.done) {
+            throw new IOException("The stream is closed");
+        }
+    }
+
+    /**
+     * Wait for the background thread.
+     * @throws IOException If interrupted
+     */
+    private void await() throws IOException {
+        try {
+            this.lock.wait();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+    }
+}
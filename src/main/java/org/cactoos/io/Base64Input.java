@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.Base64;
+import org.cactoos.Input;
+
+/**
+ * Input that decodes Base64 text of the original input.
+ *
+ * <p>The text is decoded while it is read, so it takes the same memory
+ * to decode text of any length, unlike {@link org.cactoos.bytes.Base64Bytes}.
+ * The original stream is read in blocks.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class Base64Input implements Input {
+
+    /**
+     * The input.
+     */
+    private final Input origin;
+
+    /**
+     * The decoder.
+     */
+    private final Base64.Decoder decoder;
+
+    /**
+     * Max length of the block of text.
+     */
+    private final int size;
+
+    /**
+     * Ctor uses a RFC4648 {@link java.util.Base64.Decoder}.
+     * @param input The input
+     */
+    public Base64Input(final Input input) {
+        this(input, Base64.getDecoder());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param dec The decoder
+     */
+    public Base64Input(final Input input, final Base64.Decoder dec) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(input, dec, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param dec The decoder
+     * @param max Max length of the block of text
+     */
+    public Base64Input(final Input input, final Base64.Decoder dec,
+        final int max) {
+        this.origin = input;
+        this.decoder = dec;
+        this.size = max;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return this.decoder.wrap(
+            new BufferedInputStream(this.origin.stream(), this.size)
+        );
+    }
+}
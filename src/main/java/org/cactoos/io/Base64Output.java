@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+import org.cactoos.Output;
+
+/**
+ * Output that encodes the bytes as Base64 text to the original output.
+ *
+ * <p>The bytes are encoded while they are written, so it takes the same
+ * memory to encode any amount of them, unlike
+ * {@link org.cactoos.bytes.BytesBase64}. The text is written to the
+ * original stream in blocks.</p>
+ *
+ * <p>The stream must be closed. Base64 encodes three bytes at once, so
+ * the last one or two bytes and the padding are written only by
+ * {@code close()}: written any earlier, the padding would break the text
+ * if more bytes came. {@code flush()} writes all the complete groups of
+ * three bytes. {@link TeeInput} only flushes the output it writes to, so
+ * close the stream yourself:</p>
+ *
+ * <pre> try (OutputStream out = new Base64Output(
+ *   new OutputTo(file)
+ * ).stream()) {
+ *   new LengthOf(
+ *     new TeeInput(new InputOf("hello"), new OutputTo(out))
+ *   ).intValue();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class Base64Output implements Output {
+
+    /**
+     * The output.
+     */
+    private final Output origin;
+
+    /**
+     * The encoder.
+     */
+    private final Base64.Encoder encoder;
+
+    /**
+     * Max length of the block of text.
+     */
+    private final int size;
+
+    /**
+     * Ctor uses a RFC4648 {@link java.util.Base64.Encoder}.
+     * @param output The output
+     */
+    public Base64Output(final Output output) {
+        this(output, Base64.getEncoder());
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param enc The encoder
+     */
+    public Base64Output(final Output output, final Base64.Encoder enc) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(output, enc, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param enc The encoder
+     * @param max Max length of the block of text
+     */
+    public Base64Output(final Output output, final Base64.Encoder enc,
+        final int max) {
+        this.origin = output;
+        this.encoder = enc;
+        this.size = max;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        return this.encoder.wrap(
+            new BufferedOutputStream(this.origin.stream(), this.size)
+        );
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Stream that reads a {@link ByteBuffer}, from its position to its limit.
+ *
+ * <p>The stream moves the position of the buffer. Without a mark,
+ * {@link #reset()} goes back to the position the buffer had
+ * initially.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class BufferInputStream extends InputStream {
+
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Marked position.
+     */
+    private int marked;
+
+    /**
+     * Ctor.
+     * @param buf The buffer
+     */
+    BufferInputStream(final ByteBuffer buf) {
+        super();
+        this.buffer = buf;
+        this.marked = buf.position();
+    }
+
+    @Override
+    public int read() {
+        final int data;
+        if (this.buffer.hasRemaining()) {
+            data = Byte.toUnsignedInt(this.buffer.get());
+        } else {
+            data = -1;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset, final int len) {
+        final int max;
+        if (len == 0) {
+            max = 0;
+        } else if (this.buffer.hasRemaining()) {
+            max = Math.min(len, this.buffer.remaining());
+            this.buffer.get(buf, offset, max);
+        } else {
+            max = -1;
+        }
+        return max;
+    }
+
+    @Override
+    public long skip(final long num) {
+        final int max = (int) Math.max(
+            0L, Math.min(num, (long) this.buffer.remaining())
+        );
+        this.buffer.position(this.buffer.position() + max);
+        return (long) max;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public void mark(final int limit) {
+        this.marked = this.buffer.position();
+    }
+
+    @Override
+    public void reset() {
+        this.buffer.position(this.marked);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+}
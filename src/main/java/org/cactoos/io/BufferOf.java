@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import org.cactoos.BufferBytes;
+import org.cactoos.Bytes;
+import org.cactoos.Scalar;
+
+/**
+ * Read-only {@link ByteBuffer} view of {@link Bytes}.
+ *
+ * <p>If the bytes are {@link BufferBytes}, their own buffer is used
+ * and nothing is copied. Otherwise, the array returned by
+ * {@link Bytes#asBytes()} is wrapped.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class BufferOf implements Scalar<ByteBuffer> {
+
+    /**
+     * The bytes.
+     */
+    private final Bytes origin;
+
+    /**
+     * Ctor.
+     * @param bytes The bytes
+     */
+    public BufferOf(final Bytes bytes) {
+        this.origin = bytes;
+    }
+
+    @Override
+    public ByteBuffer value() throws Exception {
+        final ByteBuffer buffer;
+        if (this.origin instanceof BufferBytes) {
+            buffer = BufferBytes.class.cast(this.origin).asBuffer();
+        } else {
+            buffer = ByteBuffer.wrap(this.origin.asBytes()).asReadOnlyBuffer();
+        }
+        return buffer;
+    }
+}
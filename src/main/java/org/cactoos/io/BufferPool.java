@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+/**
+ * Pool of byte arrays, used as temporary buffers for copying.
+ *
+ * <p>A buffer taken by {@link #acquire(int)} has to be returned
+ * by {@link #release(byte[])} when it's not needed anymore, and must
+ * not be used after that. The content of a buffer is undefined.</p>
+ *
+ * @see ThreadBufferPool
+ * @since 0.37
+ */
+public interface BufferPool {
+
+    /**
+     * Take a buffer from the pool, or make a new one.
+     * @param size Exact length of the buffer
+     * @return The buffer
+     */
+    byte[] acquire(int size);
+
+    /**
+     * Return a buffer to the pool.
+     * @param buffer The buffer
+     */
+    void release(byte[] buffer);
+}
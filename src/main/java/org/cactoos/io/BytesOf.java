@@ -28,27 +28,39 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import org.cactoos.BufferBytes;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.Scalar;
 import org.cactoos.Text;
 
 /**
  * A {@link Bytes} that encapsulates other sources of data.
  *
+ * <p>The bytes can also be seen as a read-only {@link ByteBuffer},
+ * see {@link #asBuffer()}. When they come from an array or a buffer,
+ * no copy is made for that.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.12
  */
-public final class BytesOf implements Bytes {
+public final class BytesOf implements BufferBytes {
 
     /**
      * The bytes.
      */
     private final Bytes origin;
 
+    /**
+     * The bytes, as a buffer.
+     */
+    private final Scalar<ByteBuffer> buffer;
+
     /**
      * Ctor.
      * @param input The input
@@ -327,17 +339,57 @@ public final class BytesOf implements Bytes {
         this(() -> bytes);
     }
 
+    /**
+     * Ctor.
+     *
+     * <p>The bytes are not copied, the buffer is read from
+     * its current position to its limit.</p>
+     *
+     * @param buf Buffer to encapsulate
+     * @since 0.37
+     */
+    public BytesOf(final ByteBuffer buf) {
+        this(
+            () -> {
+                final ByteBuffer view = buf.duplicate();
+                final byte[] bytes = new byte[view.remaining()];
+                view.get(bytes);
+                return bytes;
+            },
+            buf::asReadOnlyBuffer
+        );
+    }
+
     /**
      * Ctor.
      *
      * @param bytes Bytes to encapsulate
      */
     private BytesOf(final Bytes bytes) {
+        this(
+            bytes,
+            () -> ByteBuffer.wrap(bytes.asBytes()).asReadOnlyBuffer()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param bytes Bytes to encapsulate
+     * @param buf The same bytes, as a buffer
+     */
+    private BytesOf(final Bytes bytes, final Scalar<ByteBuffer> buf) {
         this.origin = bytes;
+        this.buffer = buf;
     }
 
     @Override
     public byte[] asBytes() throws Exception {
         return this.origin.asBytes();
     }
+
+    @Override
+    public ByteBuffer asBuffer() throws Exception {
+        return this.buffer.value();
+    }
 }
@@ -0,0 +1,276 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Input;
+import org.cactoos.text.HexOf;
+
+/**
+ * Input, which is cached on disk.
+ *
+ * <p>The content of the input is stored in a file in the directory,
+ * named by the SHA-256 digest of the key, which is the URL of the input
+ * or any other string identifying the content, for example its own
+ * digest. The next time, the file is read through memory mapping, so
+ * the input is read from its origin only once for all the processes
+ * sharing the directory:</p>
+ *
+ * <pre> new TextOf(
+ *   new CachedInput(url, Paths.get("/tmp/cache"))
+ * ).asString();</pre>
+ *
+ * <p>When the files in the directory take more than the budget, the
+ * least recently used ones are deleted, except the one just read. A new
+ * file is written aside and moved in place when it is complete, so
+ * a failed or concurrent reading never leaves a broken file behind.
+ * A file, which another process deletes in the meantime, is read from
+ * the origin again. The content of the key is expected to stay the
+ * same.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class CachedInput implements Input {
+
+    /**
+     * The extension of the cached files.
+     */
+    private static final String EXT = ".cache";
+
+    /**
+     * The input.
+     */
+    private final Input origin;
+
+    /**
+     * The key of the content.
+     */
+    private final String key;
+
+    /**
+     * The directory with the cached files.
+     */
+    private final Path dir;
+
+    /**
+     * Max size of all the cached files, in bytes.
+     */
+    private final long budget;
+
+    /**
+     * Ctor.
+     * @param url The URL
+     * @param path The directory with the cached files
+     */
+    public CachedInput(final URL url, final Path path) {
+        // @checkstyle MagicNumber (1 line)
+        this(url, path, 1L << 30);
+    }
+
+    /**
+     * Ctor.
+     * @param url The URL
+     * @param path The directory with the cached files
+     * @param max Max size of all the cached files, in bytes
+     */
+    public CachedInput(final URL url, final Path path, final long max) {
+        this(new InputOf(url), url.toString(), path, max);
+    }
+
+    /**
+     * Ctor.
+     * @param uri The URI
+     * @param path The directory with the cached files
+     */
+    public CachedInput(final URI uri, final Path path) {
+        // @checkstyle MagicNumber (1 line)
+        this(uri, path, 1L << 30);
+    }
+
+    /**
+     * Ctor.
+     * @param uri The URI
+     * @param path The directory with the cached files
+     * @param max Max size of all the cached files, in bytes
+     */
+    public CachedInput(final URI uri, final Path path, final long max) {
+        this(new InputOf(uri), uri.toString(), path, max);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param name The key of the content
+     * @param path The directory with the cached files
+     * @param max Max size of all the cached files, in bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CachedInput(final Input input, final String name,
+        final Path path, final long max) {
+        this.origin = input;
+        this.key = name;
+        this.dir = path;
+        this.budget = max;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        final Path file = this.dir.resolve(
+            String.format(
+                "%s%s",
+                new HexOf(new Sha256DigestOf(new InputOf(this.key)))
+                    .asString(),
+                CachedInput.EXT
+            )
+        );
+        InputStream stream;
+        try {
+            Files.setLastModifiedTime(
+                file, FileTime.fromMillis(System.currentTimeMillis())
+            );
+            stream = new MappedInput(file).stream();
+        } catch (final NoSuchFileException ex) {
+            stream = this.store(file);
+            this.evict(file);
+        }
+        return stream;
+    }
+
+    /**
+     * Read the input into the file.
+     *
+     * <p>The stream is opened before the file is moved in place, so it
+     * can be read even if another process deletes the file right
+     * away.</p>
+     *
+     * @param file The file
+     * @return Stream of the file
+     * @throws Exception If fails
+     */
+    private InputStream store(final Path file) throws Exception {
+        Files.createDirectories(this.dir);
+        final Path temp = Files.createTempFile(
+            this.dir, file.getFileName().toString(), ".tmp"
+        );
+        try {
+            try (final InputStream input = this.origin.stream()) {
+                Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            final FileChannel channel = FileChannel.open(
+                temp, StandardOpenOption.READ
+            );
+            boolean moved = false;
+            try {
+                this.move(temp, file);
+                moved = true;
+            } finally {
+                if (!moved) {
+                    channel.close();
+                }
+            }
+            return new MappedInputStream(channel, (long) Integer.MAX_VALUE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Move the complete file in place.
+     * @param temp The complete file
+     * @param file The place
+     * @throws IOException If fails
+     */
+    private void move(final Path temp, final Path file) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException ex) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Delete the least recently used files, till they fit the budget.
+     *
+     * <p>The directory is listed without reading the attributes, unlike
+     * {@link Directory}, and the files, which another process deletes in
+     * the middle, are skipped.</p>
+     *
+     * @param fresh The file, which must stay
+     * @throws IOException If fails
+     */
+    private void evict(final Path fresh) throws IOException {
+        final Map<Path, BasicFileAttributes> files = new HashMap<>(0);
+        long total = 0L;
+        try (final DirectoryStream<Path> paths = Files.newDirectoryStream(
+            this.dir, String.format("*%s", CachedInput.EXT)
+        )) {
+            for (final Path file : paths) {
+                try {
+                    final BasicFileAttributes attrs = Files.readAttributes(
+                        file, BasicFileAttributes.class
+                    );
+                    if (attrs.isRegularFile()) {
+                        files.put(file, attrs);
+                        total += attrs.size();
+                    }
+                } catch (final NoSuchFileException ex) {
+                    continue;
+                }
+            }
+        }
+        final List<Path> order = new ArrayList<>(files.keySet());
+        order.sort(
+            Comparator.comparing(file -> files.get(file).lastModifiedTime())
+        );
+        for (final Path file : order) {
+            if (total <= this.budget) {
+                break;
+            }
+            if (!file.equals(fresh)) {
+                total -= files.get(file).size();
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Iterator over a stream, which closes the stream when it is exhausted.
+ *
+ * <p>The stream is closed also when the iterator is closed, and when
+ * the stream fails to give the next item. An iterator, which is
+ * abandoned before it is exhausted, has to be closed.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of items
+ * @since 0.37
+ */
+final class ClosingIterator<T> implements Iterator<T>, Closeable {
+
+    /**
+     * The stream.
+     */
+    private final Stream<T> stream;
+
+    /**
+     * Iterator of the stream.
+     */
+    private final Iterator<T> origin;
+
+    /**
+     * Whether the stream is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param src The stream
+     */
+    ClosingIterator(final Stream<T> src) {
+        this.stream = src;
+        this.origin = src.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        boolean next = false;
+        if (!this.closed) {
+            boolean fetched = false;
+            try {
+                next = this.origin.hasNext();
+                fetched = true;
+            } finally {
+                if (!fetched || !next) {
+                    this.close();
+                }
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The stream is over, no more items"
+            );
+        }
+        boolean fetched = false;
+        try {
+            final T item = this.origin.next();
+            fetched = true;
+            return item;
+        } finally {
+            if (!fetched) {
+                this.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            this.stream.close();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.Proc;
 
 /**
  * Digest Envelope.
@@ -43,14 +44,9 @@ import org.cactoos.Input;
 public abstract class DigestEnvelope implements Bytes {
 
     /**
-     * The input.
+     * The procedure, which feeds the digest.
      */
-    private final Input source;
-
-    /**
-     * The buffer size.
-     */
-    private final int size;
+    private final Proc<MessageDigest> feed;
 
     /**
      * The algorithm.
@@ -78,26 +74,80 @@ public abstract class DigestEnvelope implements Bytes {
         final int max,
         final String algrthm
     ) {
-        this.source = input;
-        this.size = max;
+        this(input, max, ThreadBufferPool.DEFAULT, algrthm);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Buffer size
+     * @param pool The pool of buffers
+     * @param algrthm The algorithm
+     * @since 0.37
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DigestEnvelope(
+        final Input input,
+        final int max,
+        final BufferPool pool,
+        final String algrthm
+    ) {
+        this(
+            msg -> {
+                final byte[] buf = pool.acquire(max);
+                try (final InputStream stream = input.stream()) {
+                    while (true) {
+                        final int len = stream.read(buf);
+                        if (len < 0) {
+                            break;
+                        }
+                        msg.update(buf, 0, len);
+                    }
+                } finally {
+                    pool.release(buf);
+                }
+            },
+            algrthm
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The digest is calculated over the {@link java.nio.ByteBuffer}
+     * view of the bytes, see {@link BufferOf}, so nothing is copied
+     * when the bytes are {@link org.cactoos.BufferBytes}.</p>
+     *
+     * @param bytes The bytes
+     * @param algrthm The algorithm
+     * @since 0.37
+     */
+    public DigestEnvelope(final Bytes bytes, final String algrthm) {
+        this(msg -> msg.update(new BufferOf(bytes).value()), algrthm);
+    }
+
+    /**
+     * Ctor.
+     * @param proc The procedure, which feeds the digest
+     * @param algrthm The algorithm
+     */
+    private DigestEnvelope(
+        final Proc<MessageDigest> proc,
+        final String algrthm
+    ) {
+        this.feed = proc;
         this.algorithm = algrthm;
     }
 
     @Override
     public byte[] asBytes() throws Exception {
-        try (final InputStream stream = this.source.stream()) {
-            final MessageDigest msg = MessageDigest.getInstance(this.algorithm);
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                final int len = stream.read(buf);
-                if (len < 0) {
-                    break;
-                }
-                msg.update(buf, 0, len);
-            }
-            return msg.digest();
+        final MessageDigest msg;
+        try {
+            msg = MessageDigest.getInstance(this.algorithm);
         } catch (final NoSuchAlgorithmException ex) {
             throw new IOException(ex);
         }
+        this.feed.exec(msg);
+        return msg.digest();
     }
 }
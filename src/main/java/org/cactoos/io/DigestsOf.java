@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Bytes;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Digests of {@link Input} by a few algorithms, calculated in one pass.
+ *
+ * <p>The input is read once and every chunk goes to all the digests,
+ * so it's cheaper than {@link Md5DigestOf}, {@link Sha1DigestOf} and
+ * {@link Sha256DigestOf} of the same input one by one:</p>
+ *
+ * <pre> Map&lt;String, Bytes&gt; sums = new DigestsOf(
+ *   new InputOf(file), "MD5", "SHA-1", "SHA-256"
+ * ).value();
+ * Bytes sha = sums.get("SHA-256");</pre>
+ *
+ * <p>The input is read again on every call of {@link #value()}, decorate
+ * it with {@link org.cactoos.scalar.StickyScalar} to calculate
+ * the digests once.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class DigestsOf implements Scalar<Map<String, Bytes>> {
+
+    /**
+     * The input.
+     */
+    private final Input input;
+
+    /**
+     * Buffer size.
+     */
+    private final int max;
+
+    /**
+     * The algorithms.
+     */
+    private final Iterable<String> algorithms;
+
+    /**
+     * Ctor.
+     * @param inpt The input
+     * @param algrthms The algorithms
+     */
+    public DigestsOf(final Input inpt, final String... algrthms) {
+        this(inpt, new IterableOf<>(algrthms));
+    }
+
+    /**
+     * Ctor.
+     * @param inpt The input
+     * @param algrthms The algorithms
+     */
+    public DigestsOf(final Input inpt, final Iterable<String> algrthms) {
+        // @checkstyle MagicNumber (1 line)
+        this(inpt, 16 << 10, algrthms);
+    }
+
+    /**
+     * Ctor.
+     * @param inpt The input
+     * @param size Buffer size
+     * @param algrthms The algorithms
+     */
+    public DigestsOf(final Input inpt, final int size,
+        final Iterable<String> algrthms) {
+        this.input = inpt;
+        this.max = size;
+        this.algorithms = algrthms;
+    }
+
+    @Override
+    public Map<String, Bytes> value() throws Exception {
+        final Collection<MessageDigest> digests = this.digests();
+        final byte[] buf = ThreadBufferPool.DEFAULT.acquire(this.max);
+        try (final InputStream stream = this.input.stream()) {
+            for (int len = stream.read(buf); len >= 0;
+                len = stream.read(buf)) {
+                for (final MessageDigest msg : digests) {
+                    msg.update(buf, 0, len);
+                }
+            }
+        } finally {
+            ThreadBufferPool.DEFAULT.release(buf);
+        }
+        final Map<String, Bytes> sums = new LinkedHashMap<>(
+            digests.size() << 1
+        );
+        for (final MessageDigest msg : digests) {
+            sums.put(msg.getAlgorithm(), new BytesOf(msg.digest()));
+        }
+        return sums;
+    }
+
+    /**
+     * New digests of all the algorithms.
+     * @return The digests
+     * @throws IOException If some algorithm is not available
+     */
+    private Collection<MessageDigest> digests() throws IOException {
+        final List<MessageDigest> digests = new ArrayList<>(0);
+        for (final String algorithm : this.algorithms) {
+            try {
+                digests.add(MessageDigest.getInstance(algorithm));
+            } catch (final NoSuchAlgorithmException ex) {
+                throw new IOException(ex);
+            }
+        }
+        return digests;
+    }
+}
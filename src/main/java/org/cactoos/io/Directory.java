@@ -25,15 +25,41 @@ package org.cactoos.io;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.util.Iterator;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.scalar.StickyScalar;
 
 /**
  * Files and folders in a directory.
  *
+ * <p>The directory is walked lazily, while it is iterated, so the first
+ * files are available right away and the memory doesn't depend on the
+ * amount of files. The walk is closed when the iterator is exhausted or
+ * fails. The iterator is {@link java.io.Closeable}, and an iterator,
+ * which is abandoned earlier, must be closed, otherwise the directory
+ * stays open:</p>
+ *
+ * <pre> final Iterator&lt;Path&gt; files = new Directory(dir).iterator();
+ * try {
+ *   final Path first = files.next();
+ * } finally {
+ *   ((Closeable) files).close();
+ * }</pre>
+ *
+ * <p>A {@code for} loop, which runs to the end, needs no closing:</p>
+ *
+ * <pre> for (final Path log : new Directory(
+ *   Paths.get("/var/log"), 2, "**&#47;*.log"
+ * )) {
+ *   // every log file
+ * }</pre>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.21
@@ -45,6 +71,21 @@ public final class Directory implements Iterable<Path> {
      */
     private final Path dir;
 
+    /**
+     * Max depth of the walk, zero means the directory itself only.
+     */
+    private final int depth;
+
+    /**
+     * Which paths to show.
+     */
+    private final Func<Path, Boolean> filter;
+
+    /**
+     * Whether to follow symbolic links.
+     */
+    private final boolean follow;
+
     /**
      * Ctor.
      * @param file File as a path to directory.
@@ -58,13 +99,99 @@ public final class Directory implements Iterable<Path> {
      * @param path Path of the dir
      */
     public Directory(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Max depth of the walk, zero means the directory itself
+     * @since 0.37
+     */
+    public Directory(final Path path, final int max) {
+        this(path, max, file -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Max depth of the walk, zero means the directory itself
+     * @param glob Glob pattern for paths relative to the dir, for example
+     *  {@code "**&#47;*.txt"}, see
+     *  {@link java.nio.file.FileSystem#getPathMatcher(String)}
+     * @since 0.37
+     */
+    public Directory(final Path path, final int max, final String glob) {
+        this(
+            path, max,
+            new StickyScalar<>(
+                () -> path.getFileSystem().getPathMatcher(
+                    String.format("glob:%s", glob)
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Max depth of the walk, zero means the directory itself
+     * @param matcher Matcher for paths relative to the dir
+     */
+    private Directory(final Path path, final int max,
+        final Scalar<PathMatcher> matcher) {
+        this(path, max, file -> matcher.value().matches(path.relativize(file)));
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Max depth of the walk, zero means the directory itself
+     * @param fnc Which paths to show
+     * @since 0.37
+     */
+    public Directory(final Path path, final int max,
+        final Func<Path, Boolean> fnc) {
+        this(path, max, fnc, false);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Max depth of the walk, zero means the directory itself
+     * @param fnc Which paths to show
+     * @param links Whether to follow symbolic links
+     * @since 0.37
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Directory(final Path path, final int max,
+        final Func<Path, Boolean> fnc, final boolean links) {
         this.dir = path;
+        this.depth = max;
+        this.filter = fnc;
+        this.follow = links;
     }
 
+    /**
+     * Walk the directory.
+     * @return Iterator, which is {@link java.io.Closeable}
+     */
     @Override
     public Iterator<Path> iterator() {
-        try (final Stream<Path> files = Files.walk(this.dir)) {
-            return files.collect(Collectors.toList()).iterator();
+        final FileVisitOption[] options;
+        if (this.follow) {
+            options = new FileVisitOption[] {FileVisitOption.FOLLOW_LINKS};
+        } else {
+            options = new FileVisitOption[0];
+        }
+        final UncheckedFunc<Path, Boolean> accepted =
+            new UncheckedFunc<>(this.filter);
+        try {
+            return new ClosingIterator<>(
+                Files.walk(this.dir, this.depth, options).filter(
+                    accepted::apply
+                )
+            );
         } catch (final IOException ex) {
             throw new IllegalStateException(ex);
         }
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import org.cactoos.Scalar;
+
+/**
+ * Watch service of the directory of a file.
+ *
+ * <p>If the directory can't be watched, or the watch service can't
+ * be made, for example when the limit of inotify instances of the user
+ * is reached, it is {@link IdleWatchService}, which watches nothing
+ * and only makes the stream wait for the delay.</p>
+ *
+ * <p>This class is for internal use only. Use {@link FollowedInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class DirectoryWatcher implements Scalar<WatchService> {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Where to get a watch service.
+     */
+    private final Scalar<WatchService> source;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    DirectoryWatcher(final Path file) {
+        this(file, () -> file.getFileSystem().newWatchService());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param src Where to get a watch service
+     */
+    DirectoryWatcher(final Path file, final Scalar<WatchService> src) {
+        this.path = file;
+        this.source = src;
+    }
+
+    @Override
+    public WatchService value() throws Exception {
+        WatchService service;
+        try {
+            service = this.source.value();
+        } catch (final IOException | UnsupportedOperationException ex) {
+            service = new IdleWatchService();
+        }
+        if (!(service instanceof IdleWatchService)) {
+            try {
+                this.path.toAbsolutePath().getParent().register(
+                    service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+                );
+            } catch (final IOException | UnsupportedOperationException ex) {
+                service.close();
+                service = new IdleWatchService();
+            }
+        }
+        return service;
+    }
+}
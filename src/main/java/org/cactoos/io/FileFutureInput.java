@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Scalar;
+
+/**
+ * Asynchronous input of a file.
+ *
+ * <p>The position of the chunk is reserved when the reading starts,
+ * so many reads may run at the same time.</p>
+ *
+ * <p>This class is for internal use only. Use {@link FutureInputOf}
+ * instead.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ */
+final class FileFutureInput implements FutureInput {
+
+    /**
+     * The channel, opened on first use.
+     */
+    private final LazyChannel<AsynchronousFileChannel> channel;
+
+    /**
+     * Size of a chunk.
+     */
+    private final int size;
+
+    /**
+     * Position of the next chunk.
+     */
+    private final AtomicLong position;
+
+    /**
+     * Ctor.
+     * @param chnl The channel
+     * @param max Size of a chunk
+     */
+    FileFutureInput(final Scalar<AsynchronousFileChannel> chnl,
+        final int max) {
+        this.channel = new LazyChannel<>(chnl);
+        this.size = max;
+        this.position = new AtomicLong();
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer> read() {
+        final CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+        final long start = this.position.getAndAdd((long) this.size);
+        try {
+            this.fill(
+                this.channel.value(), ByteBuffer.allocate(this.size),
+                start, future
+            );
+        } catch (final IOException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Read until the buffer is full or the file is over.
+     * @param chnl The channel
+     * @param buffer The buffer
+     * @param start Position of the buffer in the file
+     * @param future Future to complete
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void fill(final AsynchronousFileChannel chnl,
+        final ByteBuffer buffer, final long start,
+        final CompletableFuture<ByteBuffer> future) {
+        chnl.read(
+            buffer, start + (long) buffer.position(), null,
+            new CompletionHandler<Integer, Void>() {
+                @Override
+                public void completed(final Integer len, final Void att) {
+                    if (len < 0 || !buffer.hasRemaining()) {
+                        buffer.flip();
+                        future.complete(buffer.asReadOnlyBuffer());
+                    } else {
+                        FileFutureInput.this.fill(
+                            chnl, buffer, start, future
+                        );
+                    }
+                }
+                @Override
+                public void failed(final Throwable err, final Void att) {
+                    future.completeExceptionally(err);
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Scalar;
+
+/**
+ * Asynchronous output to a file.
+ *
+ * <p>The position of the chunk is reserved when the writing starts,
+ * so many writes may run at the same time.</p>
+ *
+ * <p>This class is for internal use only. Use {@link FutureOutputTo}
+ * instead.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ */
+final class FileFutureOutput implements FutureOutput {
+
+    /**
+     * The channel, opened on first use.
+     */
+    private final LazyChannel<AsynchronousFileChannel> channel;
+
+    /**
+     * Position of the next chunk.
+     */
+    private final AtomicLong position;
+
+    /**
+     * Ctor.
+     * @param chnl The channel
+     */
+    FileFutureOutput(final Scalar<AsynchronousFileChannel> chnl) {
+        this.channel = new LazyChannel<>(chnl);
+        this.position = new AtomicLong();
+    }
+
+    @Override
+    public CompletableFuture<Integer> write(final ByteBuffer chunk) {
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        final ByteBuffer buffer = chunk.duplicate();
+        final long start = this.position.getAndAdd(
+            (long) buffer.remaining()
+        );
+        try {
+            this.drain(
+                this.channel.value(), buffer, start, buffer.position(), future
+            );
+        } catch (final IOException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Write until the buffer is empty.
+     * @param chnl The channel
+     * @param buffer The buffer
+     * @param start Position of the buffer in the file
+     * @param first Initial position of the buffer
+     * @param future Future to complete
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void drain(final AsynchronousFileChannel chnl,
+        final ByteBuffer buffer, final long start, final int first,
+        final CompletableFuture<Integer> future) {
+        chnl.write(
+            buffer, start + (long) (buffer.position() - first), null,
+            new CompletionHandler<Integer, Void>() {
+                @Override
+                public void completed(final Integer len, final Void att) {
+                    if (buffer.hasRemaining()) {
+                        FileFutureOutput.this.drain(
+                            chnl, buffer, start, first, future
+                        );
+                    } else {
+                        future.complete(buffer.position() - first);
+                    }
+                }
+                @Override
+                public void failed(final Throwable err, final Void att) {
+                    future.completeExceptionally(err);
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Path;
+import org.cactoos.Input;
+
+/**
+ * Input of a file, which never ends and shows the bytes appended
+ * to the file, like {@code tail -f} does.
+ *
+ * <p>The stream blocks until more bytes are appended. It is notified
+ * about them by the {@link java.nio.file.WatchService}, or polls the file
+ * with a growing delay if the notifications don't come, from 10 ms up
+ * to one second by default. Truncation of the file and its rotation,
+ * when it is renamed and a new one is created, are followed too.</p>
+ *
+ * <p>Every stream makes a watch service of its own. On Linux it is an
+ * inotify instance and a thread of the JDK, and the amount of inotify
+ * instances of the user is limited, to 128 by default, for all of their
+ * processes. When no more of them can be made, the stream polls the file
+ * instead. Close the streams which are not needed, so they don't hold
+ * the instances, which other processes of the user need too.</p>
+ *
+ * <p>Close the stream to stop following, for example from another thread.
+ * The stream may be decorated by any other input:</p>
+ *
+ * <pre> new LengthOf(
+ *   new TeeInput(
+ *     new LoggingInput(new FollowedInput(log), "app.log"),
+ *     new OutputTo(copy)
+ *   )
+ * ).value();</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class FollowedInput implements Input {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Min delay, in milliseconds.
+     */
+    private final long min;
+
+    /**
+     * Max delay, in milliseconds.
+     */
+    private final long max;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public FollowedInput(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public FollowedInput(final Path file) {
+        // @checkstyle MagicNumber (1 line)
+        this(file, 10L, 1000L);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param shortest Min delay between polls, in milliseconds
+     * @param longest Max delay between polls, in milliseconds
+     */
+    public FollowedInput(final Path file, final long shortest,
+        final long longest) {
+        this.path = file;
+        this.min = shortest;
+        this.max = longest;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return new FollowedInputStream(this.path, this.min, this.max);
+    }
+}
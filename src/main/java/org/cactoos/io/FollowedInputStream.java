@@ -0,0 +1,314 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.scalar.IoCheckedScalar;
+
+/**
+ * Input stream of a file, which waits for more bytes at the end of it,
+ * like {@code tail -f} does.
+ *
+ * <p>The stream waits for notifications of the {@link WatchService} about
+ * the directory of the file, but no longer than the current delay, which
+ * is doubled on every wait without new bytes, up to the max, and is reset
+ * as soon as they arrive. If the file system can't watch the directory,
+ * or no more watch services can be made, for example when the limit of
+ * inotify instances is reached, the stream just polls the file with
+ * this delay.</p>
+ *
+ * <p>When the file is truncated, the stream reads it again from the
+ * beginning. When the file is replaced by another one (rotated),
+ * the stream reads the old file to the end and then switches to
+ * the new one.</p>
+ *
+ * <p>This class is for internal use only. Use {@link FollowedInput}
+ * instead.</p>
+ *
+ * <p>The stream may be closed from another thread, which makes
+ * the waiting read return -1. There is no other thread-safety
+ * guarantee.</p>
+ *
+ * @since 0.37
+ */
+final class FollowedInputStream extends InputStream {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Min delay, in milliseconds.
+     */
+    private final long min;
+
+    /**
+     * Max delay, in milliseconds.
+     */
+    private final long max;
+
+    /**
+     * The watcher of the directory.
+     */
+    private final WatchService watcher;
+
+    /**
+     * Buffer for {@link #read()}.
+     */
+    private final byte[] single;
+
+    /**
+     * The channel of the file being read.
+     */
+    private FileChannel channel;
+
+    /**
+     * The key of the file being read, to see the rotation.
+     */
+    private Object key;
+
+    /**
+     * Position in the file.
+     */
+    private long position;
+
+    /**
+     * Current delay, in milliseconds.
+     */
+    private long delay;
+
+    /**
+     * Whether the stream is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param shortest Min delay, in milliseconds
+     * @param longest Max delay, in milliseconds
+     * @throws IOException If fails
+     */
+    FollowedInputStream(final Path file, final long shortest,
+        final long longest) throws IOException {
+        this(
+            file,
+            new IoCheckedScalar<>(new DirectoryWatcher(file)).value(),
+            shortest, longest
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param service The watcher of the directory of the file, which is
+     *  closed together with the stream
+     * @param shortest Min delay, in milliseconds
+     * @param longest Max delay, in milliseconds
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    FollowedInputStream(final Path file, final WatchService service,
+        final long shortest, final long longest) throws IOException {
+        super();
+        this.path = file;
+        this.min = shortest;
+        this.max = longest;
+        this.watcher = service;
+        this.single = new byte[1];
+        this.delay = shortest;
+        boolean opened = false;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.key = this.key(file);
+            opened = true;
+        } finally {
+            if (!opened) {
+                this.close();
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = this.read(this.single, 0, 1);
+        if (read > 0) {
+            read = Byte.toUnsignedInt(this.single[0]);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        int read = 0;
+        if (len > 0) {
+            read = -1;
+            while (read < 0 && !this.closed) {
+                final int chunk = this.chunk(buf, off, len);
+                if (chunk > 0) {
+                    this.position += (long) chunk;
+                    this.delay = this.min;
+                    read = chunk;
+                } else if (!this.rotated()) {
+                    this.await();
+                }
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        int avail = 0;
+        if (!this.closed) {
+            avail = (int) Math.min(
+                Integer.MAX_VALUE,
+                Math.max(0L, this.channel.size() - this.position)
+            );
+        }
+        return avail;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        try {
+            this.watcher.close();
+        } finally {
+            if (this.channel != null) {
+                this.channel.close();
+            }
+        }
+    }
+
+    /**
+     * Read the next chunk of the file.
+     * @param buf The buffer
+     * @param off Offset in the buffer
+     * @param len Max amount of bytes to read
+     * @return Amount of bytes read, zero or -1 at the end of the file
+     * @throws IOException If fails
+     */
+    private int chunk(final byte[] buf, final int off, final int len)
+        throws IOException {
+        int chunk;
+        try {
+            chunk = this.channel.read(
+                ByteBuffer.wrap(buf, off, len), this.position
+            );
+        } catch (final ClosedChannelException ex) {
+            if (!this.closed) {
+                throw ex;
+            }
+            chunk = -1;
+        }
+        return chunk;
+    }
+
+    /**
+     * Start reading the file from the beginning, if it was truncated
+     * or replaced by another one.
+     * @return TRUE if it was
+     * @throws IOException If fails
+     */
+    private boolean rotated() throws IOException {
+        boolean rotated = false;
+        if (this.channel.size() < this.position) {
+            this.position = 0L;
+            rotated = true;
+        } else {
+            final Object current = this.key(this.path);
+            if (!Objects.equals(current, this.key)) {
+                final FileChannel next = FileChannel.open(
+                    this.path, StandardOpenOption.READ
+                );
+                this.channel.close();
+                this.channel = next;
+                this.key = current;
+                this.position = 0L;
+                rotated = true;
+            }
+        }
+        return rotated;
+    }
+
+    /**
+     * Wait for a notification about the directory, no longer than
+     * the current delay, and make the delay longer if nothing happened.
+     * @throws IOException If fails
+     */
+    private void await() throws IOException {
+        try {
+            final WatchKey event = this.watcher.poll(
+                this.delay, TimeUnit.MILLISECONDS
+            );
+            if (event == null) {
+                this.delay = Math.min(this.delay << 1, this.max);
+            } else {
+                event.pollEvents();
+                event.reset();
+            }
+        } catch (final ClosedWatchServiceException ex) {
+            this.closed = true;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Key of the file, which changes when the file is replaced.
+     * @param file The file
+     * @return The key, NULL if the file system doesn't provide it,
+     *  or the current key if there is no file
+     * @throws IOException If fails
+     */
+    private Object key(final Path file) throws IOException {
+        Object key;
+        try {
+            key = Files.readAttributes(file, BasicFileAttributes.class)
+                .fileKey();
+        } catch (final NoSuchFileException ex) {
+            key = this.key;
+        }
+        return key;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Input;
+
+/**
+ * A {@link FutureInput} that encapsulates other sources of data.
+ *
+ * <p>A file is read with {@link AsynchronousFileChannel}, without
+ * blocking any thread while the data is read:</p>
+ *
+ * <pre> try (FutureInput input = new FutureInputOf(path)) {
+ *   CompletableFuture&lt;ByteBuffer&gt; next = input.read();
+ *   while (true) {
+ *     ByteBuffer chunk = next.get();
+ *     if (!chunk.hasRemaining()) {
+ *       break;
+ *     }
+ *     next = input.read();
+ *     process(chunk);
+ *   }
+ * }</pre>
+ *
+ * <p>Any other {@link Input} is read by the given executor in the
+ * background. The object is a single reading session, it can't be
+ * read again after the end of the data.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ */
+public final class FutureInputOf implements FutureInput {
+
+    /**
+     * The input.
+     */
+    private final FutureInput origin;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    public FutureInputOf(final Path path) {
+        // @checkstyle MagicNumber (1 line)
+        this(path, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param max Size of a chunk
+     */
+    public FutureInputOf(final Path path, final int max) {
+        this(
+            new FileFutureInput(
+                () -> AsynchronousFileChannel.open(
+                    path, StandardOpenOption.READ
+                ),
+                max
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param exec The executor, which reads the input
+     */
+    public FutureInputOf(final Input input, final ExecutorService exec) {
+        // @checkstyle MagicNumber (1 line)
+        this(input, exec, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param exec The executor, which reads the input
+     * @param max Size of a chunk
+     */
+    public FutureInputOf(final Input input, final ExecutorService exec,
+        final int max) {
+        this(new StreamFutureInput(input, exec, max));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     */
+    private FutureInputOf(final FutureInput input) {
+        this.origin = input;
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer> read() {
+        return this.origin.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
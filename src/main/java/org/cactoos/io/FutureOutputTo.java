@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Output;
+
+/**
+ * A {@link FutureOutput} that encapsulates other destinations of data.
+ *
+ * <p>A file is written with {@link AsynchronousFileChannel}, without
+ * blocking any thread while the data is written. The file is created,
+ * or truncated if it exists. Any other {@link Output} is written by the
+ * given executor in the background.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ */
+public final class FutureOutputTo implements FutureOutput {
+
+    /**
+     * The output.
+     */
+    private final FutureOutput origin;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    public FutureOutputTo(final Path path) {
+        this(
+            new FileFutureOutput(
+                () -> AsynchronousFileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param exec The executor, which writes to the output
+     */
+    public FutureOutputTo(final Output output, final ExecutorService exec) {
+        this(new StreamFutureOutput(output, exec));
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    private FutureOutputTo(final FutureOutput output) {
+        this.origin = output;
+    }
+
+    @Override
+    public CompletableFuture<Integer> write(final ByteBuffer chunk) {
+        return this.origin.write(chunk);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
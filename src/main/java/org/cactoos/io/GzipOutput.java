@@ -25,12 +25,31 @@
 package org.cactoos.io;
 
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
 import java.util.zip.GZIPOutputStream;
+import org.cactoos.Func;
 import org.cactoos.Output;
 
 /**
  * Output that writes compressed data in the GZIP file format.
  *
+ * <p>With an executor the data is split into blocks, which are compressed
+ * in parallel, each of them into a separate GZIP member, like
+ * <a href="https://zlib.net/pigz/">pigz</a> does. The result is a standard
+ * multi-member GZIP stream, readable by {@link GzipInput}. It is a bit
+ * bigger than the result of a single member, since each block is
+ * compressed without the dictionary of the previous one.</p>
+ *
+ * <pre> ExecutorService exec = Executors.newFixedThreadPool(4);
+ * new LengthOf(
+ *   new TeeInput(
+ *     new InputOf(file),
+ *     new GzipOutput(new OutputTo(archive), exec)
+ *   )
+ * ).value();</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
  * @since 0.29
  */
 public final class GzipOutput implements Output {
@@ -41,9 +60,9 @@ public final class GzipOutput implements Output {
     private final Output origin;
 
     /**
-     * The buffer size.
+     * Compressing stream on top of the stream of the output.
      */
-    private final int size;
+    private final Func<OutputStream, OutputStream> gzip;
 
     /**
      * Ctor.
@@ -60,15 +79,65 @@ public final class GzipOutput implements Output {
      * @param max Max length of the buffer
      */
     public GzipOutput(final Output output, final int max) {
+        this(output, stream -> new GZIPOutputStream(stream, max));
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param exec The executor to compress blocks on
+     * @since 0.37
+     */
+    public GzipOutput(final Output output, final ExecutorService exec) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(output, 128 << 10, exec);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param block Size of a block, compressed as a separate member
+     * @param exec The executor to compress blocks on
+     * @since 0.37
+     */
+    public GzipOutput(final Output output, final int block,
+        final ExecutorService exec) {
+        this(
+            output, block,
+            Runtime.getRuntime().availableProcessors() << 1, exec
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param block Size of a block, compressed as a separate member
+     * @param depth Max amount of blocks being compressed at the same time
+     * @param exec The executor to compress blocks on
+     * @since 0.37
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public GzipOutput(final Output output, final int block, final int depth,
+        final ExecutorService exec) {
+        this(
+            output,
+            stream -> new ParallelGzipStream(stream, block, depth, exec)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param fnc Compressing stream on top of the stream of the output
+     */
+    private GzipOutput(final Output output,
+        final Func<OutputStream, OutputStream> fnc) {
         this.origin = output;
-        this.size = max;
+        this.gzip = fnc;
     }
 
     @Override
     public OutputStream stream() throws Exception {
-        return new GZIPOutputStream(
-            this.origin.stream(),
-            this.size
-        );
+        return this.gzip.apply(this.origin.stream());
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.bytes.HexBytes;
+import org.cactoos.scalar.IoCheckedScalar;
+
+/**
+ * Input stream, which decodes hexadecimal text of the original stream.
+ *
+ * <p>The text is read in blocks and every block is decoded by
+ * {@link HexBytes}, both upper and lower case digits are accepted.
+ * The last char of a block with an odd length is kept for the next
+ * block.</p>
+ *
+ * <p>This class is for internal use only. Use {@link HexInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class HexInputStream extends InputStream {
+
+    /**
+     * The original stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * The block of text.
+     */
+    private final byte[] block;
+
+    /**
+     * Buffer for {@link #read()}.
+     */
+    private final byte[] single;
+
+    /**
+     * Amount of chars at the start of the block, read already.
+     */
+    private int pending;
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param max Max length of the block of text
+     */
+    HexInputStream(final InputStream stream, final int max) {
+        super();
+        this.origin = stream;
+        this.block = new byte[Math.max(2, max)];
+        this.single = new byte[1];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = this.read(this.single, 0, 1);
+        if (read > 0) {
+            read = Byte.toUnsignedInt(this.single[0]);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        int read = 0;
+        if (len > 0) {
+            read = -1;
+            while (read < 0) {
+                final int got = this.origin.read(
+                    this.block, this.pending,
+                    (int) Math.min((long) this.block.length, (long) len << 1)
+                        - this.pending
+                );
+                if (got < 0) {
+                    if (this.pending > 0) {
+                        throw new IOException(
+                            "Length of hexadecimal text is odd"
+                        );
+                    }
+                    break;
+                }
+                final int total = this.pending + got;
+                final int even = total & ~1;
+                final byte[] bytes = new IoCheckedScalar<>(
+                    new HexBytes(
+                        () -> new String(
+                            this.block, 0, even, StandardCharsets.ISO_8859_1
+                        )
+                    )::asBytes
+                ).value();
+                System.arraycopy(bytes, 0, buf, off, bytes.length);
+                this.pending = total - even;
+                if (this.pending > 0) {
+                    this.block[0] = this.block[even];
+                }
+                if (bytes.length > 0) {
+                    read = bytes.length;
+                }
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
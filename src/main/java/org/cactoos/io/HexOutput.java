@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import org.cactoos.Output;
+
+/**
+ * Output that encodes the bytes as hexadecimal text to the original output.
+ *
+ * <p>The bytes are encoded while they are written, block by block, so it
+ * takes the same memory to encode any amount of them. The digits are
+ * in lower case, the same as {@link org.cactoos.text.HexOf} makes.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class HexOutput implements Output {
+
+    /**
+     * The output.
+     */
+    private final Output origin;
+
+    /**
+     * Max length of the block of text.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    public HexOutput(final Output output) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(output, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param max Max length of the block of text
+     */
+    public HexOutput(final Output output, final int max) {
+        this.origin = output;
+        this.size = max;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        return new HexOutputStream(this.origin.stream(), this.size);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream, which encodes the bytes as hexadecimal text
+ * to the original stream.
+ *
+ * <p>The bytes are encoded in blocks, in lower case, the same way
+ * as {@link org.cactoos.text.HexOf} does.</p>
+ *
+ * <p>This class is for internal use only. Use {@link HexOutput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class HexOutputStream extends OutputStream {
+
+    /**
+     * The hexadecimal chars.
+     */
+    private static final byte[] HEX_CHARS = {
+        '0', '1', '2', '3', '4', '5', '6', '7',
+        '8', '9', 'a', 'b', 'c', 'd', 'e', 'f',
+    };
+
+    /**
+     * The original stream.
+     */
+    private final OutputStream origin;
+
+    /**
+     * The block of text.
+     */
+    private final byte[] block;
+
+    /**
+     * Buffer for {@link #write(int)}.
+     */
+    private final byte[] single;
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param max Max length of the block of text
+     */
+    HexOutputStream(final OutputStream stream, final int max) {
+        super();
+        this.origin = stream;
+        this.block = new byte[Math.max(2, max & -2)];
+        this.single = new byte[1];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.single[0] = (byte) data;
+        this.write(this.single, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        int pos = off;
+        final int end = off + len;
+        while (pos < end) {
+            final int count = Math.min(end - pos, this.block.length >> 1);
+            int chr = 0;
+            for (int idx = pos; idx < pos + count; ++idx) {
+                // @checkstyle MagicNumber (3 lines)
+                final int value = 0xff & buf[idx];
+                this.block[chr] = HexOutputStream.HEX_CHARS[value >>> 4];
+                this.block[chr + 1] = HexOutputStream.HEX_CHARS[value & 0x0f];
+                chr += 2;
+            }
+            this.origin.write(this.block, 0, chr);
+            pos += count;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watch service, which watches nothing and only waits.
+ *
+ * <p>It is used instead of the watch service of the file system, when
+ * there is none, or when it can't be made, for example when the limit
+ * of the watchers of the user is reached. It doesn't use any resources
+ * of the operating system. Closing it wakes up the waiting threads.</p>
+ *
+ * <p>This class is for internal use only. Use {@link FollowedInput}
+ * instead.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ */
+final class IdleWatchService implements WatchService {
+
+    /**
+     * Opened until the service is closed.
+     */
+    private final CountDownLatch latch;
+
+    /**
+     * Ctor.
+     */
+    IdleWatchService() {
+        this.latch = new CountDownLatch(1);
+    }
+
+    @Override
+    public void close() {
+        this.latch.countDown();
+    }
+
+    @Override
+    public WatchKey poll() {
+        this.check();
+        return null;
+    }
+
+    @Override
+    public WatchKey poll(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        this.check();
+        this.latch.await(timeout, unit);
+        this.check();
+        return null;
+    }
+
+    @Override
+    public WatchKey take() throws InterruptedException {
+        this.check();
+        this.latch.await();
+        throw new ClosedWatchServiceException();
+    }
+
+    /**
+     * Make sure the service is not closed.
+     */
+    private void check() {
+        if (this.latch.getCount() == 0L) {
+            throw new ClosedWatchServiceException();
+        }
+    }
+}
@@ -23,8 +23,10 @@
  */
 package org.cactoos.io;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
 
@@ -33,22 +35,45 @@ import org.cactoos.Input;
  *
  * <p>This class is for internal use only. Use {@link BytesOf} instead.</p>
  *
+ * <p>The bytes are read in one pass, straight into the arrays they
+ * are returned in. When the stream knows how many bytes it has, by
+ * {@link InputStream#available()}, like streams of files and byte arrays
+ * do, the array is allocated once with the right size and returned as
+ * is. Otherwise, the bytes are read into a list of growing chunks,
+ * which are joined once at the end. The chunks are taken from the pool
+ * of buffers and returned to it after joining.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
  */
 final class InputAsBytes implements Bytes {
 
+    /**
+     * Max size of one chunk, when the size of the input is unknown.
+     */
+    private static final int MAX_CHUNK = 1 << 24;
+
+    /**
+     * Max size of an array.
+     */
+    private static final int MAX_ARRAY = Integer.MAX_VALUE - 8;
+
     /**
      * The input.
      */
     private final Input source;
 
     /**
-     * The buffer size.
+     * The size of the first chunk, when the size of the input is unknown.
      */
     private final int size;
 
+    /**
+     * The pool of buffers.
+     */
+    private final BufferPool pool;
+
     /**
      * Ctor.
      * @param input The input
@@ -64,23 +89,108 @@ final class InputAsBytes implements Bytes {
      * @param max Max length of the buffer for reading
      */
     InputAsBytes(final Input input, final int max) {
+        this(input, max, ThreadBufferPool.DEFAULT);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Max length of the buffer for reading
+     * @param buffers The pool of buffers
+     */
+    InputAsBytes(final Input input, final int max, final BufferPool buffers) {
         this.source = input;
         this.size = max;
+        this.pool = buffers;
     }
 
     @Override
     public byte[] asBytes() throws Exception {
-        try (final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final InputStream stream = new TeeInput(
-                this.source, new OutputTo(baos)
-            ).stream()) {
-            final byte[] buf = new byte[this.size];
+        try (final InputStream stream = this.source.stream()) {
+            final List<byte[]> full = new ArrayList<>(0);
+            long total = 0L;
+            byte[] chunk = this.pool.acquire(
+                Math.min(
+                    Math.max(stream.available(), 0), InputAsBytes.MAX_ARRAY
+                )
+            );
+            int filled = 0;
             while (true) {
-                if (stream.read(buf) < 0) {
+                if (filled == chunk.length) {
+                    final int next = stream.read();
+                    if (next < 0) {
+                        break;
+                    }
+                    full.add(chunk);
+                    total += (long) chunk.length;
+                    chunk = this.pool.acquire(this.next(total));
+                    chunk[0] = (byte) next;
+                    filled = 1;
+                }
+                final int len = stream.read(
+                    chunk, filled, chunk.length - filled
+                );
+                if (len < 0) {
                     break;
                 }
+                filled += len;
+            }
+            final byte[] result;
+            if (full.isEmpty() && filled == chunk.length) {
+                result = chunk;
+            } else {
+                result = this.joined(full, total, chunk, filled);
             }
-            return baos.toByteArray();
+            return result;
+        }
+    }
+
+    /**
+     * Size of the next chunk.
+     * @param total Amount of bytes read so far
+     * @return Size
+     * @throws IOException If the input is too big for an array
+     */
+    private int next(final long total) throws IOException {
+        if (total >= (long) InputAsBytes.MAX_ARRAY) {
+            throw new IOException(
+                String.format(
+                    "The input is bigger than %d bytes, it can't be an array",
+                    InputAsBytes.MAX_ARRAY
+                )
+            );
+        }
+        return (int) Math.max(
+            (long) Math.max(this.size, 1),
+            Math.min(
+                Math.min(total, (long) InputAsBytes.MAX_CHUNK),
+                (long) InputAsBytes.MAX_ARRAY - total
+            )
+        );
+    }
+
+    /**
+     * Join the chunks and return them to the pool.
+     * @param full Full chunks
+     * @param total Amount of bytes in full chunks
+     * @param last The last chunk
+     * @param filled Amount of bytes in the last chunk
+     * @return All the bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private byte[] joined(final List<byte[]> full, final long total,
+        final byte[] last, final int filled) {
+        final byte[] result = new byte[(int) total + filled];
+        int pos = 0;
+        for (final byte[] chunk : full) {
+            System.arraycopy(chunk, 0, result, pos, chunk.length);
+            pos += chunk.length;
+        }
+        System.arraycopy(last, 0, result, pos, filled);
+        for (final byte[] chunk : full) {
+            this.pool.release(chunk);
         }
+        this.pool.release(last);
+        return result;
     }
 }
@@ -23,7 +23,6 @@
  */
 package org.cactoos.io;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
@@ -283,7 +282,7 @@ public final class InputOf implements Input {
     public InputOf(final Bytes src) {
         this(
             () -> new IoCheckedScalar<InputStream>(
-                () -> new ByteArrayInputStream(src.asBytes())
+                () -> new BufferInputStream(new BufferOf(src).value())
             ).value()
         );
     }
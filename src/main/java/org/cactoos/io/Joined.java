@@ -24,14 +24,16 @@
 package org.cactoos.io;
 
 import java.io.InputStream;
-import java.io.SequenceInputStream;
 import org.cactoos.Input;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.Reduced;
 
 /**
  * Concatenation of several inputs.
+ *
+ * <p>The inputs are read one by one: the stream of every input is
+ * opened only when the previous one is exhausted, and closed right away
+ * when it is exhausted.</p>
+ *
  * @since 0.36
  */
 public final class Joined implements Input {
@@ -46,20 +48,25 @@ public final class Joined implements Input {
      * @param rest The rest
      */
     public Joined(final Input first, final Input... rest) {
-        this.inputs = new org.cactoos.iterable.Joined<>(
-            first,
-            new IterableOf<>(rest)
+        this(
+            new org.cactoos.iterable.Joined<>(
+                first,
+                new IterableOf<>(rest)
+            )
         );
     }
 
+    /**
+     * Ctor.
+     * @param list The inputs
+     * @since 0.37
+     */
+    public Joined(final Iterable<Input> list) {
+        this.inputs = list;
+    }
+
     @Override
-    public InputStream stream() throws Exception {
-        return new Reduced<InputStream>(
-            (left, right) -> new SequenceInputStream(left, right),
-            new Mapped<>(
-                input -> () -> input.stream(),
-                this.inputs
-            )
-        ).value();
+    public InputStream stream() {
+        return new JoinedInputStream(this.inputs.iterator());
     }
 }
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import org.cactoos.Input;
+import org.cactoos.scalar.IoCheckedScalar;
+
+/**
+ * Concatenation of the streams of several inputs.
+ *
+ * <p>The stream of every input is opened only when the stream of the
+ * previous one is exhausted, and it is closed right away when it is
+ * exhausted, so at most one of them is open at any time.</p>
+ *
+ * <p>This class is for internal use only. Use {@link Joined}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class JoinedInputStream extends InputStream {
+
+    /**
+     * The inputs left.
+     */
+    private final Iterator<Input> inputs;
+
+    /**
+     * The stream being read, or NULL if none is open.
+     */
+    private InputStream current;
+
+    /**
+     * Whether the stream is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param list The inputs
+     */
+    JoinedInputStream(final Iterator<Input> list) {
+        super();
+        this.inputs = list;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int data = -1;
+        while (this.next()) {
+            data = this.current.read();
+            if (data >= 0) {
+                break;
+            }
+            this.release();
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        int read = -1;
+        if (len == 0) {
+            read = 0;
+        } else {
+            while (this.next()) {
+                read = this.current.read(buf, off, len);
+                if (read >= 0) {
+                    break;
+                }
+                this.release();
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        int available = 0;
+        if (this.current != null) {
+            available = this.current.available();
+        }
+        return available;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.release();
+    }
+
+    /**
+     * Make sure there is a stream to read from.
+     * @return FALSE if all of them are exhausted
+     * @throws IOException If fails to open the next stream
+     */
+    private boolean next() throws IOException {
+        if (this.current == null && !this.closed && this.inputs.hasNext()) {
+            this.current = new IoCheckedScalar<>(
+                this.inputs.next()::stream
+            ).value();
+        }
+        return this.current != null;
+    }
+
+    /**
+     * Close the stream being read.
+     * @throws IOException If fails
+     */
+    private void release() throws IOException {
+        if (this.current != null) {
+            final InputStream stream = this.current;
+            this.current = null;
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.channels.Channel;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoCheckedScalar;
+
+/**
+ * Channel, which is opened on first use.
+ *
+ * <p>The channel is opened by the first call of {@link #value()} only,
+ * and no lock is taken after it is opened. {@link #close()} closes the
+ * channel only if it was opened, so closing an unused one doesn't touch
+ * the file. Once closed, it is never opened again.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @param <T> Type of the channel
+ * @since 0.37
+ */
+final class LazyChannel<T extends Channel> implements Scalar<T>, Channel {
+
+    /**
+     * Opens the channel.
+     */
+    private final Scalar<T> source;
+
+    /**
+     * The lock, taken only while the channel is not opened.
+     */
+    private final Object lock;
+
+    /**
+     * The channel, NULL until it is opened.
+     */
+    private volatile T channel;
+
+    /**
+     * Whether it is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param chnl The channel, opened already
+     */
+    LazyChannel(final T chnl) {
+        this(() -> chnl);
+        this.channel = chnl;
+    }
+
+    /**
+     * Ctor.
+     * @param src Opens the channel
+     */
+    LazyChannel(final Scalar<T> src) {
+        this.source = src;
+        this.lock = new Object();
+    }
+
+    @Override
+    public T value() throws IOException {
+        T chnl = this.channel;
+        if (chnl == null) {
+            synchronized (this.lock) {
+                if (this.closed) {
+                    throw new IOException("The channel is closed");
+                }
+                chnl = this.channel;
+                if (chnl == null) {
+                    chnl = new IoCheckedScalar<>(this.source).value();
+                    this.channel = chnl;
+                }
+            }
+        }
+        return chnl;
+    }
+
+    @Override
+    public boolean isOpen() {
+        final T chnl = this.channel;
+        return chnl != null && chnl.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        final T chnl;
+        synchronized (this.lock) {
+            this.closed = true;
+            chnl = this.channel;
+        }
+        if (chnl != null) {
+            chnl.close();
+        }
+    }
+}
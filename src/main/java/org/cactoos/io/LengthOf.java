@@ -55,21 +55,32 @@ public final class LengthOf extends NumberEnvelope {
      * @param input The input
      * @param max Buffer size
      */
+    public LengthOf(final Input input, final int max) {
+        this(input, max, ThreadBufferPool.DEFAULT);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Buffer size
+     * @param pool The pool of buffers
+     * @since 0.37
+     */
     @SuppressWarnings(
         {
             "PMD.CallSuperInConstructor",
             "PMD.ConstructorOnlyInitializesOrCallOtherConstructors"
         }
     )
-    public LengthOf(final Input input, final int max) {
+    public LengthOf(final Input input, final int max, final BufferPool pool) {
         super(() -> {
             if (max == 0) {
                 throw new IllegalArgumentException(
                     "Cannot use a buffer limited to zero size"
                 );
             }
+            final byte[] buf = pool.acquire(max);
             try (final InputStream stream = input.stream()) {
-                final byte[] buf = new byte[max];
                 long length = 0L;
                 while (true) {
                     final int len = stream.read(buf);
@@ -81,6 +92,8 @@ public final class LengthOf extends NumberEnvelope {
                     }
                 }
                 return (double) length;
+            } finally {
+                pool.release(buf);
             }
         });
     }
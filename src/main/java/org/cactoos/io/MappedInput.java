@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.Input;
+
+/**
+ * Input that reads a file through memory mapping.
+ *
+ * <p>The file is mapped with {@link FileChannel#map(FileChannel.MapMode,
+ * long, long)} in read-only chunks, one chunk at a time, so files
+ * bigger than 2 GB can be read too. The bytes are served by the page
+ * cache of the operating system, without copying them to the heap in
+ * advance. Use it for big files, which are read many times:</p>
+ *
+ * <pre> long length = new LengthOf(
+ *   new MappedInput(Paths.get("/var/index.bin"))
+ * ).longValue();</pre>
+ *
+ * <p>The file is expected to stay the same while it is being read.
+ * A mapped chunk is released by the garbage collector, not when
+ * the stream is closed.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class MappedInput implements Input {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Max size of one mapped chunk, in bytes.
+     */
+    private final long chunk;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedInput(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedInput(final Path file) {
+        this(file, (long) Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param max Max size of one mapped chunk, in bytes, up to
+     *  {@link Integer#MAX_VALUE}
+     */
+    public MappedInput(final Path file, final long max) {
+        this.path = file;
+        this.chunk = max;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        if (this.chunk <= 0L || this.chunk > (long) Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The chunk size %d is out of range 1..%d",
+                    this.chunk, Integer.MAX_VALUE
+                )
+            );
+        }
+        return new MappedInputStream(
+            FileChannel.open(this.path, StandardOpenOption.READ),
+            this.chunk
+        );
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Stream that reads a file through read-only memory mapped chunks.
+ *
+ * <p>This class is for internal use only. Use {@link MappedInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class MappedInputStream extends InputStream {
+
+    /**
+     * The channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Max size of one mapped chunk, in bytes.
+     */
+    private final long chunk;
+
+    /**
+     * Current position in the file.
+     */
+    private long position;
+
+    /**
+     * Marked position in the file.
+     */
+    private long marked;
+
+    /**
+     * Currently mapped chunk, which starts at {@link #start}.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Position of the currently mapped chunk in the file.
+     */
+    private long start;
+
+    /**
+     * Ctor.
+     * @param chnl The channel
+     * @param max Max size of one mapped chunk, in bytes
+     */
+    MappedInputStream(final FileChannel chnl, final long max) {
+        super();
+        this.channel = chnl;
+        this.chunk = max;
+        this.buffer = ByteBuffer.allocate(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int data;
+        if (this.mapped()) {
+            data = Byte.toUnsignedInt(this.buffer.get());
+            ++this.position;
+        } else {
+            data = -1;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset,
+        final int len) throws IOException {
+        final int max;
+        if (len == 0) {
+            max = 0;
+        } else if (this.mapped()) {
+            max = Math.min(len, this.buffer.remaining());
+            this.buffer.get(buf, offset, max);
+            this.position += (long) max;
+        } else {
+            max = -1;
+        }
+        return max;
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        final long max = Math.max(
+            0L, Math.min(num, this.channel.size() - this.position)
+        );
+        this.seek(this.position + max);
+        return max;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(
+            (long) Integer.MAX_VALUE,
+            Math.max(0L, this.channel.size() - this.position)
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    @Override
+    public void mark(final int limit) {
+        this.marked = this.position;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        this.seek(this.marked);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * Move to the position, keeping the current chunk if possible.
+     * @param target New position in the file
+     */
+    private void seek(final long target) {
+        final long offset = target - this.start;
+        if (offset >= 0L && offset <= (long) this.buffer.limit()) {
+            this.buffer.position((int) offset);
+        } else {
+            this.buffer = ByteBuffer.allocate(0);
+            this.start = target;
+        }
+        this.position = target;
+    }
+
+    /**
+     * Make sure there are bytes in the current chunk, mapping the next
+     * one if necessary.
+     * @return FALSE if the end of the file is reached
+     * @throws IOException If fails
+     */
+    private boolean mapped() throws IOException {
+        if (!this.buffer.hasRemaining()) {
+            final long size = this.channel.size();
+            if (this.position < size) {
+                this.buffer = this.channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    this.position,
+                    Math.min(this.chunk, size - this.position)
+                );
+                this.start = this.position;
+            }
+        }
+        return this.buffer.hasRemaining();
+    }
+}
@@ -23,10 +23,11 @@
  */
 package org.cactoos.io;
 
+import org.cactoos.Bytes;
 import org.cactoos.Input;
 
 /**
- * MD5 checksum calculation of {@link Input}.
+ * MD5 checksum calculation of {@link Input} or {@link Bytes}.
  *
  * <p>There is no thread-safety guarantee.
  *
@@ -51,4 +52,13 @@ public final class Md5DigestOf extends DigestEnvelope {
         // @checkstyle MagicNumber (1 line)
         super(input, max, "MD5");
     }
+
+    /**
+     * Ctor.
+     * @param bytes The bytes
+     * @since 0.37
+     */
+    public Md5DigestOf(final Bytes bytes) {
+        super(bytes, "MD5");
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Bytes;
+
+/**
+ * Merkle tree hash of a file, calculated in parallel.
+ *
+ * <p>The file is split into chunks of the same size, which are hashed
+ * on a {@link ForkJoinPool}, and then the hashes are combined into
+ * a binary tree, like in RFC 6962: a leaf is the digest of byte 0x00
+ * followed by the chunk, a node is the digest of byte 0x01 followed by
+ * the hashes of its children. An empty file is one empty chunk.</p>
+ *
+ * <p>The result is not the same as the plain digest of the file, see
+ * {@link Sha256DigestOf}, and depends on the size of the chunk, so both
+ * sides have to agree on it. By default, it's SHA-256 over chunks
+ * of one megabyte.</p>
+ *
+ * <p>Every thread reads its chunks into one buffer of its own, which
+ * is kept by this object and not by {@link ThreadBufferPool#DEFAULT},
+ * because a chunk is usually bigger than the default pool keeps.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class MerkleDigestOf implements Bytes {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Size of a chunk.
+     */
+    private final int chunk;
+
+    /**
+     * The algorithm.
+     */
+    private final String algorithm;
+
+    /**
+     * The pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Buffers for the chunks.
+     */
+    private final BufferPool buffers;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MerkleDigestOf(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MerkleDigestOf(final Path file) {
+        // @checkstyle MagicNumber (1 line)
+        this(file, 1 << 20);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param len Size of a chunk
+     */
+    public MerkleDigestOf(final Path file, final int len) {
+        this(file, len, "SHA-256");
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param len Size of a chunk
+     * @param algrthm The algorithm
+     */
+    public MerkleDigestOf(final Path file, final int len,
+        final String algrthm) {
+        this(file, len, algrthm, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param len Size of a chunk
+     * @param algrthm The algorithm
+     * @param threads The pool to hash the chunks on
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public MerkleDigestOf(final Path file, final int len,
+        final String algrthm, final ForkJoinPool threads) {
+        this.path = file;
+        this.chunk = len;
+        this.algorithm = algrthm;
+        this.pool = threads;
+        this.buffers = new ThreadBufferPool(1, (long) len);
+    }
+
+    @Override
+    public byte[] asBytes() throws IOException {
+        if (this.chunk <= 0) {
+            throw new IllegalArgumentException(
+                String.format("The chunk size %d is not positive", this.chunk)
+            );
+        }
+        try {
+            MessageDigest.getInstance(this.algorithm);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+        try (final FileChannel channel = FileChannel.open(
+            this.path, StandardOpenOption.READ
+        )) {
+            final long size = channel.size();
+            return this.pool.invoke(
+                new MerkleTask(
+                    channel, size, this.chunk, this.algorithm,
+                    this.buffers, 0L,
+                    Math.max(1L, (size + this.chunk - 1L) / this.chunk)
+                )
+            );
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+}
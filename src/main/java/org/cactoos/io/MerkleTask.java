@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Hash of a range of chunks of a file, as a node of a Merkle tree.
+ *
+ * <p>A leaf is the digest of byte 0x00 followed by the chunk, a node is
+ * the digest of byte 0x01 followed by the hashes of its children. The left
+ * child covers the largest power of two of the chunks, smaller than their
+ * amount, like in RFC 6962. The left child is forked, the right one is
+ * calculated in the same thread.</p>
+ *
+ * <p>This class is for internal use only. Use {@link MerkleDigestOf}
+ * instead.</p>
+ *
+ * @since 0.37
+ */
+final class MerkleTask extends RecursiveTask<byte[]> {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 2580418993157204371L;
+
+    /**
+     * The channel of the file.
+     */
+    private final transient FileChannel channel;
+
+    /**
+     * Size of the file.
+     */
+    private final long size;
+
+    /**
+     * Size of a chunk.
+     */
+    private final int chunk;
+
+    /**
+     * The algorithm.
+     */
+    private final String algorithm;
+
+    /**
+     * Buffers for the chunks.
+     */
+    private final transient BufferPool buffers;
+
+    /**
+     * The first chunk.
+     */
+    private final long first;
+
+    /**
+     * The chunk after the last one.
+     */
+    private final long last;
+
+    /**
+     * Ctor.
+     * @param chnl The channel of the file
+     * @param total Size of the file
+     * @param len Size of a chunk
+     * @param algrthm The algorithm
+     * @param bufs Buffers for the chunks
+     * @param from The first chunk
+     * @param till The chunk after the last one
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    MerkleTask(final FileChannel chnl, final long total, final int len,
+        final String algrthm, final BufferPool bufs, final long from,
+        final long till) {
+        super();
+        this.channel = chnl;
+        this.size = total;
+        this.chunk = len;
+        this.algorithm = algrthm;
+        this.buffers = bufs;
+        this.first = from;
+        this.last = till;
+    }
+
+    @Override
+    protected byte[] compute() {
+        final byte[] hash;
+        if (this.last - this.first == 1L) {
+            hash = this.leaf();
+        } else {
+            final long split = this.first
+                + Long.highestOneBit(this.last - this.first - 1L);
+            final MerkleTask left = this.task(this.first, split);
+            left.fork();
+            final byte[] right = this.task(split, this.last).compute();
+            final MessageDigest msg = this.digest();
+            msg.update((byte) 1);
+            msg.update(left.join());
+            msg.update(right);
+            hash = msg.digest();
+        }
+        return hash;
+    }
+
+    /**
+     * Hash of the first chunk.
+     * @return The hash
+     */
+    private byte[] leaf() {
+        final long start = this.first * (long) this.chunk;
+        final int len = (int) Math.min(
+            (long) this.chunk, Math.max(0L, this.size - start)
+        );
+        final byte[] buf = this.buffers.acquire(this.chunk);
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(buf, 0, len);
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0) {
+                read = this.channel.read(buffer, start + buffer.position());
+            }
+            final MessageDigest msg = this.digest();
+            msg.update((byte) 0);
+            msg.update(buf, 0, buffer.position());
+            return msg.digest();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            this.buffers.release(buf);
+        }
+    }
+
+    /**
+     * Task for a range of chunks.
+     * @param from The first chunk
+     * @param till The chunk after the last one
+     * @return The task
+     */
+    private MerkleTask task(final long from, final long till) {
+        return new MerkleTask(
+            this.channel, this.size, this.chunk, this.algorithm,
+            this.buffers, from, till
+        );
+    }
+
+    /**
+     * New digest.
+     * @return The digest
+     */
+    private MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance(this.algorithm);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Output stream, which compresses fixed-size blocks in parallel, each
+ * of them into a separate GZIP member.
+ *
+ * <p>The members are written to the target in the order of the blocks,
+ * so the result is a standard multi-member GZIP stream, which
+ * {@link java.util.zip.GZIPInputStream} reads as one. No more than
+ * {@code depth} blocks are compressed at the same time; when there
+ * are more, {@link #write(byte[], int, int)} waits for the oldest
+ * one. {@link #flush()} compresses the block being filled as it is,
+ * so after it the target is a complete GZIP stream.</p>
+ *
+ * <p>This class is for internal use only. Use {@link GzipOutput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class ParallelGzipStream extends OutputStream {
+
+    /**
+     * The target.
+     */
+    private final OutputStream target;
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Max amount of blocks being compressed at the same time.
+     */
+    private final int depth;
+
+    /**
+     * Blocks being compressed, oldest first.
+     */
+    private final Queue<Future<byte[]>> pending;
+
+    /**
+     * Buffer for {@link #write(int)}.
+     */
+    private final byte[] single;
+
+    /**
+     * The block being filled.
+     */
+    private byte[] block;
+
+    /**
+     * Amount of bytes in the block.
+     */
+    private int count;
+
+    /**
+     * Whether any block was compressed.
+     */
+    private boolean started;
+
+    /**
+     * Whether the stream is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param tgt The target
+     * @param size Size of a block
+     * @param max Max amount of blocks being compressed at the same time
+     * @param exec The executor
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ParallelGzipStream(final OutputStream tgt, final int size,
+        final int max, final ExecutorService exec) {
+        super();
+        this.target = tgt;
+        this.executor = exec;
+        this.depth = max;
+        this.pending = new ArrayDeque<>(max);
+        this.block = new byte[size];
+        this.single = new byte[1];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.single[0] = (byte) data;
+        this.write(this.single, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+        int pos = off;
+        final int end = off + len;
+        while (pos < end) {
+            final int chunk = Math.min(
+                end - pos, this.block.length - this.count
+            );
+            System.arraycopy(buf, pos, this.block, this.count, chunk);
+            this.count += chunk;
+            pos += chunk;
+            if (this.count == this.block.length) {
+                this.submit();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+        if (this.count > 0) {
+            this.submit();
+        }
+        while (!this.pending.isEmpty()) {
+            this.drain();
+        }
+        this.target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            try {
+                if (this.count > 0 || !this.started) {
+                    this.submit();
+                }
+                while (!this.pending.isEmpty()) {
+                    this.drain();
+                }
+                this.target.flush();
+            } finally {
+                this.closed = true;
+                this.target.close();
+            }
+        }
+    }
+
+    /**
+     * Send the current block to compression and start a new one.
+     * @throws IOException If fails
+     */
+    private void submit() throws IOException {
+        if (this.pending.size() >= this.depth) {
+            this.drain();
+        }
+        final byte[] data = this.block;
+        final int len = this.count;
+        this.pending.add(this.executor.submit(() -> this.member(data, len)));
+        this.started = true;
+        this.block = new byte[data.length];
+        this.count = 0;
+    }
+
+    /**
+     * Wait for the oldest block and write it to the target.
+     * @throws IOException If fails
+     */
+    private void drain() throws IOException {
+        try {
+            this.target.write(this.pending.remove().get());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing", ex);
+        } catch (final ExecutionException ex) {
+            throw new IOException("Can't compress a block", ex.getCause());
+        }
+    }
+
+    /**
+     * Compress the block into a GZIP member.
+     * @param data The block
+     * @param len Amount of bytes in it
+     * @return The member
+     * @throws IOException If fails
+     */
+    private byte[] member(final byte[] data, final int len)
+        throws IOException {
+        // @checkstyle MagicNumber (2 lines)
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream(len + 64);
+        try (final OutputStream gzip = new GZIPOutputStream(baos, 16 << 10)) {
+            gzip.write(data, 0, len);
+        }
+        return baos.toByteArray();
+    }
+}
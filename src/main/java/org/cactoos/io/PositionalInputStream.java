@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Stream that reads a shared file channel from its own position.
+ *
+ * <p>The channel is read with {@link FileChannel#read(ByteBuffer, long)}
+ * only, which doesn't change the position of the channel, so any amount
+ * of such streams may read the same channel at the same time, without
+ * locking. Closing the stream doesn't close the channel.</p>
+ *
+ * <p>This class is for internal use only. Use {@link SharedFileInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class PositionalInputStream extends InputStream {
+
+    /**
+     * The channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Buffer for {@link #read()}.
+     */
+    private final byte[] single;
+
+    /**
+     * Current position in the file.
+     */
+    private long position;
+
+    /**
+     * Marked position in the file.
+     */
+    private long marked;
+
+    /**
+     * Ctor.
+     * @param chnl The channel
+     */
+    PositionalInputStream(final FileChannel chnl) {
+        super();
+        this.channel = chnl;
+        this.single = new byte[1];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int data = -1;
+        if (this.read(this.single, 0, 1) > 0) {
+            data = Byte.toUnsignedInt(this.single[0]);
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        int read = 0;
+        if (len > 0) {
+            read = this.channel.read(
+                ByteBuffer.wrap(buf, off, len), this.position
+            );
+            if (read > 0) {
+                this.position += read;
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        final long skipped = Math.max(
+            0L, Math.min(num, this.channel.size() - this.position)
+        );
+        this.position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(
+            (long) Integer.MAX_VALUE,
+            Math.max(0L, this.channel.size() - this.position)
+        );
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(final int limit) {
+        this.marked = this.position;
+    }
+
+    @Override
+    public void reset() {
+        this.position = this.marked;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import org.cactoos.Input;
+
+/**
+ * Input, which is read ahead in the background.
+ *
+ * <p>The background thread reads up to {@code depth} chunks ahead into
+ * a ring of buffers, while the stream is being processed, so reading of
+ * a slow source and processing of its content overlap. The stream blocks
+ * only when nothing is read ahead yet:</p>
+ *
+ * <pre> new TextOf(
+ *   new PrefetchedInput(new InputOf(url), 64 &lt;&lt; 10, 8)
+ * ).asString();</pre>
+ *
+ * <p>By default, every stream gets its own daemon thread, which ends
+ * together with the reading. The original stream is read and closed by
+ * that thread only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class PrefetchedInput implements Input {
+
+    /**
+     * The input.
+     */
+    private final Input origin;
+
+    /**
+     * Size of a chunk.
+     */
+    private final int chunk;
+
+    /**
+     * Max amount of chunks read ahead.
+     */
+    private final int depth;
+
+    /**
+     * Where to run the background reading.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param input The input
+     */
+    public PrefetchedInput(final Input input) {
+        // @checkstyle MagicNumber (1 line)
+        this(input, 64 << 10, 4);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param size Size of a chunk
+     * @param max Max amount of chunks read ahead
+     */
+    public PrefetchedInput(final Input input, final int size,
+        final int max) {
+        this(
+            input, size, max,
+            task -> {
+                final Thread thread = new Thread(task, "cactoos-prefetch");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param size Size of a chunk
+     * @param max Max amount of chunks read ahead
+     * @param exec Where to run the background reading, it must not
+     *  run it in the caller's thread
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public PrefetchedInput(final Input input, final int size,
+        final int max, final Executor exec) {
+        this.origin = input;
+        this.chunk = size;
+        this.depth = max;
+        this.executor = exec;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        if (this.chunk <= 0 || this.depth <= 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The chunk size %d and the depth %d must be positive",
+                    this.chunk, this.depth
+                )
+            );
+        }
+        final PrefetchedInputStream stream = new PrefetchedInputStream(
+            this.origin.stream(), this.chunk, this.depth
+        );
+        this.executor.execute(stream::prefetch);
+        return stream;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Input stream, which reads the original stream ahead in the background.
+ *
+ * <p>There is a ring of buffers: the background thread takes free
+ * buffers, fills them from the original stream and passes them to the
+ * reader, which gives them back when they are read. So the reader waits
+ * only when there is nothing read ahead, and the background thread waits
+ * only when all the buffers are full.</p>
+ *
+ * <p>The original stream is read and closed by the background thread
+ * only. When this stream is closed, the background thread stops after
+ * the chunk it is reading at the moment, if any.</p>
+ *
+ * <p>This class is for internal use only. Use {@link PrefetchedInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class PrefetchedInputStream extends InputStream {
+
+    /**
+     * The original stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * Buffers to fill.
+     */
+    private final BlockingQueue<ByteBuffer> free;
+
+    /**
+     * Buffers filled, in order.
+     */
+    private final BlockingQueue<ByteBuffer> full;
+
+    /**
+     * The marker of the end of the stream.
+     */
+    private final ByteBuffer end;
+
+    /**
+     * Buffer for {@link #read()}.
+     */
+    private final byte[] single;
+
+    /**
+     * The buffer being read.
+     */
+    private ByteBuffer current;
+
+    /**
+     * The error of the background thread.
+     */
+    private volatile Throwable error;
+
+    /**
+     * Whether the stream is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param chunk Size of a buffer
+     * @param depth Amount of buffers
+     */
+    PrefetchedInputStream(final InputStream stream, final int chunk,
+        final int depth) {
+        super();
+        this.origin = stream;
+        this.free = new ArrayBlockingQueue<>(depth);
+        this.full = new ArrayBlockingQueue<>(depth + 1);
+        for (int idx = 0; idx < depth; ++idx) {
+            this.free.add(ByteBuffer.allocate(chunk));
+        }
+        this.end = ByteBuffer.allocate(0);
+        this.current = ByteBuffer.allocate(0);
+        this.single = new byte[1];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = this.read(this.single, 0, 1);
+        if (read > 0) {
+            read = Byte.toUnsignedInt(this.single[0]);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+        int read = 0;
+        if (len > 0) {
+            if (!this.current.hasRemaining() && this.current != this.end) {
+                this.next();
+            }
+            if (this.current == this.end) {
+                read = -1;
+            } else {
+                read = Math.min(len, this.current.remaining());
+                this.current.get(buf, off, read);
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return this.current.remaining();
+    }
+
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            final Collection<ByteBuffer> buffers = new ArrayList<>(
+                this.full.size() + 1
+            );
+            buffers.add(this.current);
+            this.full.drainTo(buffers);
+            for (final ByteBuffer buffer : buffers) {
+                if (buffer.capacity() > 0) {
+                    this.free.add(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the original stream ahead, till its end or till this
+     * stream is closed.
+     *
+     * <p>It has to run in a thread other than the reader's one.</p>
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    void prefetch() {
+        try {
+            int len = 0;
+            while (len >= 0 && !this.closed) {
+                final ByteBuffer buffer = this.free.take();
+                buffer.clear();
+                len = this.origin.read(buffer.array(), 0, buffer.capacity());
+                if (len > 0) {
+                    buffer.limit(len);
+                    this.full.add(buffer);
+                } else {
+                    this.free.add(buffer);
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.error = new InterruptedIOException(ex.getMessage());
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Throwable ex) {
+            this.error = ex;
+        } finally {
+            try {
+                this.origin.close();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Throwable ex) {
+                if (this.error == null) {
+                    this.error = ex;
+                }
+            }
+            this.full.add(this.end);
+        }
+    }
+
+    /**
+     * Give the current buffer back and wait for the next one.
+     * @throws IOException If the background thread failed
+     */
+    private void next() throws IOException {
+        if (this.current.capacity() > 0) {
+            this.free.add(this.current);
+        }
+        try {
+            this.current = this.full.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+        if (this.current == this.end && this.error != null) {
+            throw new IOException(
+                "Can't read the stream ahead", this.error
+            );
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * One target of {@link ReplicatedOutputStream}, written in the background.
+ *
+ * <p>The chunks pushed are queued and written to the target by the
+ * background thread. Chunks are never modified after they are pushed, so
+ * one copy is shared by all the targets. Pushing blocks while the target
+ * lags behind by more than the given amount of bytes.</p>
+ *
+ * <p>The target is written and closed by the background thread only.
+ * When it fails with any exception, checked or not, the rest of the
+ * chunks are dropped, so their bytes don't hold the writer any more, and
+ * the error is thrown by the next push, flush or close.</p>
+ *
+ * <p>This class is for internal use only. Use {@link ReplicatedOutput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+@SuppressWarnings("PMD.TooManyFields")
+final class Replica implements Closeable {
+
+    /**
+     * The target.
+     */
+    private final OutputStream target;
+
+    /**
+     * Chunks to write, in order.
+     */
+    private final BlockingQueue<byte[]> queue;
+
+    /**
+     * Bytes the target may lag behind by.
+     */
+    private final Semaphore lag;
+
+    /**
+     * The marker of a flush.
+     */
+    private final byte[] sync;
+
+    /**
+     * The marker of the end.
+     */
+    private final byte[] end;
+
+    /**
+     * The lock.
+     */
+    private final Object lock;
+
+    /**
+     * Amount of flushes asked.
+     */
+    private long asked;
+
+    /**
+     * Amount of flushes done.
+     */
+    private long flushed;
+
+    /**
+     * Whether the end is queued.
+     */
+    private boolean ending;
+
+    /**
+     * Whether the background thread is done.
+     */
+    private volatile boolean done;
+
+    /**
+     * The error of the background thread.
+     */
+    private volatile Throwable error;
+
+    /**
+     * Ctor.
+     * @param stream The target
+     * @param max Bytes the target may lag behind by
+     */
+    Replica(final OutputStream stream, final int max) {
+        this.target = stream;
+        this.queue = new LinkedBlockingQueue<>();
+        this.lag = new Semaphore(max);
+        this.sync = new byte[0];
+        this.end = new byte[0];
+        this.lock = new Object();
+    }
+
+    /**
+     * Queue a chunk, which is no longer than the max lag.
+     * @param chunk The chunk, which must not be modified afterwards
+     * @throws IOException If the target failed, is closed or interrupted
+     */
+    void push(final byte[] chunk) throws IOException {
+        this.alive();
+        try {
+            this.lag.acquire(chunk.length);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+        this.queue.add(chunk);
+        this.alive();
+    }
+
+    /**
+     * Ask to flush the target, without waiting.
+     * @return The number of the flush to wait for
+     * @throws IOException If the target failed
+     */
+    long ask() throws IOException {
+        this.check();
+        this.queue.add(this.sync);
+        synchronized (this.lock) {
+            this.asked += 1L;
+            return this.asked;
+        }
+    }
+
+    /**
+     * Wait till the flush is done.
+     * @param ticket The number of the flush
+     * @throws IOException If the target failed or interrupted
+     */
+    void await(final long ticket) throws IOException {
+        synchronized (this.lock) {
+            while (this.flushed < ticket && !this.done
+                && this.error == null) {
+                this.pause();
+            }
+        }
+        this.check();
+    }
+
+    /**
+     * Ask to close the target, without waiting.
+     */
+    void finish() {
+        if (!this.ending) {
+            this.ending = true;
+            this.queue.add(this.end);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.finish();
+        synchronized (this.lock) {
+            while (!this.done) {
+                this.pause();
+            }
+        }
+        this.check();
+    }
+
+    /**
+     * Write the chunks to the target, till the end.
+     *
+     * <p>It has to run in a thread other than the writer's one.</p>
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    void replicate() {
+        try {
+            while (true) {
+                final byte[] chunk = this.queue.take();
+                if (chunk == this.end) {
+                    break;
+                }
+                if (this.error == null) {
+                    this.write(chunk);
+                }
+                this.lag.release(chunk.length);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.fail(new InterruptedIOException(ex.getMessage()));
+        } finally {
+            try {
+                this.target.close();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Throwable ex) {
+                this.fail(ex);
+            }
+            synchronized (this.lock) {
+                this.done = true;
+                this.lock.notifyAll();
+            }
+            for (byte[] left = this.queue.poll(); left != null;
+                left = this.queue.poll()) {
+                this.lag.release(left.length);
+            }
+        }
+    }
+
+    /**
+     * Write the chunk or flush.
+     * @param chunk The chunk or the marker of a flush
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void write(final byte[] chunk) {
+        try {
+            if (chunk == this.sync) {
+                this.target.flush();
+                synchronized (this.lock) {
+                    this.flushed += 1L;
+                    this.lock.notifyAll();
+                }
+            } else {
+                this.target.write(chunk);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Throwable ex) {
+            this.fail(ex);
+        }
+    }
+
+    /**
+     * Remember the first error of the background thread.
+     * @param ex The error
+     */
+    private void fail(final Throwable ex) {
+        synchronized (this.lock) {
+            if (this.error == null) {
+                this.error = ex;
+            }
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Throw the error of the background thread, if any.
+     * @throws IOException If there is one
+     */
+    private void check() throws IOException {
+        final Throwable failure = this.error;
+        if (failure != null) {
+            throw new IOException("Can't write a replica", failure);
+        }
+    }
+
+    /**
+     * Throw if the background thread failed or ended.
+     * @throws IOException If it did
+     */
+    private void alive() throws IOException {
+        this.check();
+        if (this.done) {
+            throw new IOException("The replica is closed");
+        }
+    }
+
+    /**
+     * Wait for the background thread.
+     * @throws IOException If interrupted
+     */
+    private void pause() throws IOException {
+        try {
+            this.lock.wait();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import org.cactoos.Output;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Output, which writes the same bytes to many outputs in parallel.
+ *
+ * <p>Every output gets its own queue and background thread, so the
+ * outputs are written at the same time, and a slow one doesn't hold the
+ * others. Writing blocks only while some output lags behind by more than
+ * the given amount of bytes:</p>
+ *
+ * <pre> try (OutputStream out = new ReplicatedOutput(
+ *   new OutputTo(file),
+ *   new GzipOutput(new OutputTo(archive)),
+ *   new OutputTo(socket)
+ * ).stream()) {
+ *   new LengthOf(
+ *     new TeeInput(new InputOf(url), new OutputTo(out))
+ *   ).intValue();
+ * }</pre>
+ *
+ * <p>{@code flush()} and {@code close()} return when all the outputs are
+ * flushed or closed. An error of any output is thrown by the next write,
+ * flush or close, and {@code close()} closes all the outputs anyway.
+ * Every write is a separate chunk in the queues, so small writes are
+ * better buffered upfront.</p>
+ *
+ * <p>The stream must be closed. Only {@code close()} stops the background
+ * threads and closes the outputs, which is when, for example,
+ * {@link GzipOutput} writes its trailer. {@link TeeInput} only flushes the
+ * output it writes to, so don't give it this one straight, as the
+ * example above shows.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class ReplicatedOutput implements Output {
+
+    /**
+     * The outputs.
+     */
+    private final Iterable<Output> outputs;
+
+    /**
+     * Bytes an output may lag behind by.
+     */
+    private final int lag;
+
+    /**
+     * Where to run the background writing.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param list The outputs
+     */
+    public ReplicatedOutput(final Output... list) {
+        // @checkstyle MagicNumber (1 line)
+        this(1 << 20, list);
+    }
+
+    /**
+     * Ctor.
+     * @param max Bytes an output may lag behind by
+     * @param list The outputs
+     */
+    public ReplicatedOutput(final int max, final Output... list) {
+        this(new IterableOf<>(list), max);
+    }
+
+    /**
+     * Ctor.
+     * @param list The outputs
+     * @param max Bytes an output may lag behind by
+     */
+    public ReplicatedOutput(final Iterable<Output> list, final int max) {
+        this(
+            list, max,
+            task -> {
+                final Thread thread = new Thread(task, "cactoos-replica");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param list The outputs
+     * @param max Bytes an output may lag behind by
+     * @param exec Where to run the background writing, it must run
+     *  every output in a thread of its own
+     */
+    public ReplicatedOutput(final Iterable<Output> list, final int max,
+        final Executor exec) {
+        this.outputs = list;
+        this.lag = max;
+        this.executor = exec;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public OutputStream stream() throws Exception {
+        if (this.lag <= 0) {
+            throw new IllegalArgumentException(
+                String.format("The lag %d must be positive", this.lag)
+            );
+        }
+        final Collection<OutputStream> streams = new ArrayList<>(0);
+        try {
+            for (final Output output : this.outputs) {
+                streams.add(output.stream());
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            for (final OutputStream stream : streams) {
+                this.close(stream, ex);
+            }
+            throw ex;
+        }
+        final Collection<Replica> replicas = new ArrayList<>(streams.size());
+        for (final OutputStream stream : streams) {
+            final Replica replica = new Replica(stream, this.lag);
+            replicas.add(replica);
+            this.executor.execute(replica::replicate);
+        }
+        return new ReplicatedOutputStream(replicas, this.lag);
+    }
+
+    /**
+     * Close the stream opened, when another one failed to open.
+     * @param stream The stream
+     * @param error The error of the other one
+     */
+    private void close(final OutputStream stream, final Exception error) {
+        try {
+            stream.close();
+        } catch (final IOException ex) {
+            error.addSuppressed(ex);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Output stream, which writes to all the replicas in parallel.
+ *
+ * <p>Every chunk written is copied once and the copy is queued to every
+ * replica. Writing blocks only while some replica lags behind by more
+ * than its limit. {@link #flush()} and {@link #close()} wait for all the
+ * replicas, which do their work in parallel.</p>
+ *
+ * <p>This class is for internal use only. Use {@link ReplicatedOutput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class ReplicatedOutputStream extends OutputStream {
+
+    /**
+     * The replicas.
+     */
+    private final Collection<Replica> replicas;
+
+    /**
+     * Max size of a chunk.
+     */
+    private final int chunk;
+
+    /**
+     * Buffer for {@link #write(int)}.
+     */
+    private final byte[] single;
+
+    /**
+     * Whether the stream is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param list The replicas
+     * @param max Max size of a chunk, no more than their lag
+     */
+    ReplicatedOutputStream(final Collection<Replica> list, final int max) {
+        super();
+        this.replicas = list;
+        this.chunk = max;
+        this.single = new byte[1];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.single[0] = (byte) data;
+        this.write(this.single, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+        int pos = off;
+        final int end = off + len;
+        while (pos < end) {
+            final int next = Math.min(end, pos + this.chunk);
+            final byte[] copy = Arrays.copyOfRange(buf, pos, next);
+            for (final Replica replica : this.replicas) {
+                replica.push(copy);
+            }
+            pos = next;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        final long[] tickets = new long[this.replicas.size()];
+        int idx = 0;
+        for (final Replica replica : this.replicas) {
+            tickets[idx] = replica.ask();
+            ++idx;
+        }
+        idx = 0;
+        for (final Replica replica : this.replicas) {
+            replica.await(tickets[idx]);
+            ++idx;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            for (final Replica replica : this.replicas) {
+                replica.finish();
+            }
+            IOException error = null;
+            for (final Replica replica : this.replicas) {
+                try {
+                    replica.close();
+                } catch (final IOException ex) {
+                    if (error == null) {
+                        error = ex;
+                    } else {
+                        error.addSuppressed(ex);
+                    }
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+}
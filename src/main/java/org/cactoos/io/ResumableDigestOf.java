@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import org.cactoos.Bytes;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.cactoos.scalar.StickyScalar;
+
+/**
+ * Digest of a file, which only grows, calculated incrementally.
+ *
+ * <p>The object keeps the state of the digest together with the length
+ * of the file it covers. Next time {@link #asBytes()} is called only the
+ * bytes appended since then are read, and the result is the digest of the
+ * entire file, the same as {@link Sha256DigestOf} or any other
+ * {@link DigestEnvelope} would calculate:</p>
+ *
+ * <pre> Bytes sha = new ResumableDigestOf(journal, "SHA-256");
+ * sha.asBytes(); // reads the entire file
+ * sha.asBytes(); // reads only what was appended</pre>
+ *
+ * <p>The file is expected to be append-only. If it gets shorter,
+ * the digest is calculated from the beginning again, but a change
+ * of the bytes which were already read is not noticed.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class ResumableDigestOf implements Bytes {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Buffer size.
+     */
+    private final int max;
+
+    /**
+     * The digest of the bytes read so far.
+     */
+    private final IoCheckedScalar<MessageDigest> digest;
+
+    /**
+     * Amount of bytes read so far.
+     */
+    private long offset;
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param algorithm The algorithm
+     */
+    public ResumableDigestOf(final File file, final String algorithm) {
+        this(file.toPath(), algorithm);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param algorithm The algorithm
+     */
+    public ResumableDigestOf(final Path file, final String algorithm) {
+        // @checkstyle MagicNumber (1 line)
+        this(file, 16 << 10, algorithm);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param size Buffer size
+     * @param algorithm The algorithm
+     */
+    public ResumableDigestOf(final Path file, final int size,
+        final String algorithm) {
+        this.path = file;
+        this.max = size;
+        this.digest = new IoCheckedScalar<>(
+            new StickyScalar<>(() -> MessageDigest.getInstance(algorithm))
+        );
+    }
+
+    @Override
+    public byte[] asBytes() throws IOException {
+        final MessageDigest msg = this.digest.value();
+        try (final FileChannel channel = FileChannel.open(
+            this.path, StandardOpenOption.READ
+        )) {
+            final long size = channel.size();
+            if (size < this.offset) {
+                msg.reset();
+                this.offset = 0L;
+            }
+            final byte[] buf = ThreadBufferPool.DEFAULT.acquire(this.max);
+            try {
+                final ByteBuffer buffer = ByteBuffer.wrap(buf);
+                while (this.offset < size) {
+                    buffer.clear();
+                    buffer.limit(
+                        (int) Math.min((long) buf.length, size - this.offset)
+                    );
+                    final int len = channel.read(buffer, this.offset);
+                    if (len < 0) {
+                        break;
+                    }
+                    msg.update(buf, 0, len);
+                    this.offset += (long) len;
+                }
+            } finally {
+                ThreadBufferPool.DEFAULT.release(buf);
+            }
+        }
+        try {
+            return ((MessageDigest) msg.clone()).digest();
+        } catch (final CloneNotSupportedException ex) {
+            throw new IOException(
+                String.format(
+                    "The digest %s can't be resumed", msg.getAlgorithm()
+                ),
+                ex
+            );
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+
+/**
+ * Cached scalar, which expires and is revalidated.
+ *
+ * <p>The value is reused without any checks for the time to live since
+ * it was loaded or revalidated last time. After that, the version is
+ * asked: if it is the same as the one taken before the last loading,
+ * the value is reused for the time to live again, otherwise it is
+ * loaded again. All the callers wait for one loading in progress and
+ * share its result.</p>
+ *
+ * <p>This class is for internal use only. Use {@link StickyInput}
+ * instead.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @param <T> Type of result
+ * @since 0.37
+ */
+final class RevalidatedScalar<T> implements Scalar<T> {
+
+    /**
+     * The origin.
+     */
+    private final Scalar<T> origin;
+
+    /**
+     * Time to live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * The version of the origin.
+     */
+    private final Scalar<Long> version;
+
+    /**
+     * The lock.
+     */
+    private final Object lock;
+
+    /**
+     * The value, or NULL if it is not loaded yet.
+     */
+    private T cached;
+
+    /**
+     * The version of the value.
+     */
+    private long tag;
+
+    /**
+     * When the value was loaded or revalidated, in nanoseconds.
+     */
+    private long checked;
+
+    /**
+     * Ctor.
+     * @param scalar The origin
+     * @param millis Time to live, in milliseconds
+     * @param ver The version of the origin
+     */
+    RevalidatedScalar(final Scalar<T> scalar, final long millis,
+        final Scalar<Long> ver) {
+        this.origin = scalar;
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(millis);
+        this.version = ver;
+        this.lock = new Object();
+    }
+
+    @Override
+    public T value() throws Exception {
+        synchronized (this.lock) {
+            final long now = System.nanoTime();
+            if (this.cached == null || now - this.checked >= this.ttl) {
+                final long current = this.version.value();
+                if (this.cached == null || current != this.tag) {
+                    this.cached = this.origin.value();
+                    this.tag = current;
+                }
+                this.checked = now;
+            }
+            return this.cached;
+        }
+    }
+}
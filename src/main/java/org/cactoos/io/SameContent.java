@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+
+/**
+ * Whether two inputs have the same content.
+ *
+ * <p>The inputs are read chunk by chunk at the same time, so it takes
+ * two chunks of memory to compare inputs of any size. The comparison
+ * stops at the first chunk which is different.</p>
+ *
+ * <p>For secrets, like tokens or MACs, use the constant-time mode: both
+ * inputs are read to the end and all the bytes are compared, so the
+ * time depends only on the lengths of the inputs, not on where they
+ * are different.</p>
+ *
+ * <pre> boolean same = new SameContent(
+ *   new InputOf(first), new InputOf(second)
+ * ).value();</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class SameContent implements Scalar<Boolean> {
+
+    /**
+     * Left.
+     */
+    private final Input left;
+
+    /**
+     * Right.
+     */
+    private final Input right;
+
+    /**
+     * Size of a chunk.
+     */
+    private final int max;
+
+    /**
+     * Whether to compare in constant time.
+     */
+    private final boolean constant;
+
+    /**
+     * Ctor.
+     * @param lft Left
+     * @param rght Right
+     */
+    public SameContent(final Input lft, final Input rght) {
+        this(lft, rght, false);
+    }
+
+    /**
+     * Ctor.
+     * @param lft Left
+     * @param rght Right
+     * @param secret Whether to compare in constant time
+     */
+    public SameContent(final Input lft, final Input rght,
+        final boolean secret) {
+        // @checkstyle MagicNumber (1 line)
+        this(lft, rght, 64 << 10, secret);
+    }
+
+    /**
+     * Ctor.
+     * @param lft Left
+     * @param rght Right
+     * @param size Size of a chunk, positive
+     * @param secret Whether to compare in constant time
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SameContent(final Input lft, final Input rght, final int size,
+        final boolean secret) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(
+                String.format("The chunk size %d must be positive", size)
+            );
+        }
+        this.left = lft;
+        this.right = rght;
+        this.max = size;
+        this.constant = secret;
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        final byte[] lbuf = ThreadBufferPool.DEFAULT.acquire(this.max);
+        final byte[] rbuf = ThreadBufferPool.DEFAULT.acquire(this.max);
+        try (
+            final InputStream lft = this.left.stream();
+            final InputStream rght = this.right.stream()
+        ) {
+            final boolean same;
+            if (this.constant) {
+                same = this.constantTime(lft, lbuf, rght, rbuf);
+            } else {
+                same = this.fast(lft, lbuf, rght, rbuf);
+            }
+            return same;
+        } finally {
+            ThreadBufferPool.DEFAULT.release(rbuf);
+            ThreadBufferPool.DEFAULT.release(lbuf);
+        }
+    }
+
+    /**
+     * Compare till the first difference.
+     * @param lft Left stream
+     * @param lbuf Buffer for the left stream
+     * @param rght Right stream
+     * @param rbuf Buffer for the right stream
+     * @return TRUE if the same
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private boolean fast(final InputStream lft, final byte[] lbuf,
+        final InputStream rght, final byte[] rbuf) throws IOException {
+        boolean same = true;
+        int len = lbuf.length;
+        while (same && len == lbuf.length) {
+            len = this.filled(lft, lbuf);
+            same = len == this.filled(rght, rbuf)
+                && this.equal(lbuf, rbuf, len);
+        }
+        return same;
+    }
+
+    /**
+     * Compare all the bytes, in time which depends only on the lengths.
+     * @param lft Left stream
+     * @param lbuf Buffer for the left stream
+     * @param rght Right stream
+     * @param rbuf Buffer for the right stream
+     * @return TRUE if the same
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private boolean constantTime(final InputStream lft, final byte[] lbuf,
+        final InputStream rght, final byte[] rbuf) throws IOException {
+        int diff = 0;
+        int llen = lbuf.length;
+        int rlen = rbuf.length;
+        while (llen == lbuf.length || rlen == rbuf.length) {
+            if (llen == lbuf.length) {
+                llen = this.filled(lft, lbuf);
+            } else {
+                llen = 0;
+            }
+            if (rlen == rbuf.length) {
+                rlen = this.filled(rght, rbuf);
+            } else {
+                rlen = 0;
+            }
+            diff |= llen ^ rlen;
+            final int len = Math.min(llen, rlen);
+            for (int idx = 0; idx < len; ++idx) {
+                diff |= lbuf[idx] ^ rbuf[idx];
+            }
+        }
+        return diff == 0;
+    }
+
+    /**
+     * Compare first bytes of the chunks.
+     * @param lbuf Left chunk
+     * @param rbuf Right chunk
+     * @param len Amount of bytes to compare
+     * @return TRUE if they are equal
+     */
+    private boolean equal(final byte[] lbuf, final byte[] rbuf,
+        final int len) {
+        int idx = 0;
+        while (idx < len && lbuf[idx] == rbuf[idx]) {
+            ++idx;
+        }
+        return idx == len;
+    }
+
+    /**
+     * Fill the buffer from the stream.
+     * @param stream The stream
+     * @param buf The buffer
+     * @return Amount of bytes read, less than the size of the buffer
+     *  only at the end of the stream
+     * @throws IOException If fails
+     */
+    private int filled(final InputStream stream, final byte[] buf)
+        throws IOException {
+        int len = 0;
+        while (len < buf.length) {
+            final int read = stream.read(buf, len, buf.length - len);
+            if (read < 0) {
+                break;
+            }
+            len += read;
+        }
+        return len;
+    }
+}
@@ -23,10 +23,11 @@
  */
 package org.cactoos.io;
 
+import org.cactoos.Bytes;
 import org.cactoos.Input;
 
 /**
- * SHA-256 checksum calculation of {@link Input}.
+ * SHA-256 checksum calculation of {@link Input} or {@link Bytes}.
  *
  * <p>There is no thread-safety guarantee.
  *
@@ -51,4 +52,13 @@ public final class Sha256DigestOf extends DigestEnvelope {
         // @checkstyle MagicNumber (1 line)
         super(input, max, "SHA-256");
     }
+
+    /**
+     * Ctor.
+     * @param bytes The bytes
+     * @since 0.37
+     */
+    public Sha256DigestOf(final Bytes bytes) {
+        super(bytes, "SHA-256");
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.Input;
+
+/**
+ * File input, which many threads read at the same time.
+ *
+ * <p>The file is opened once, by the first stream, and every stream
+ * reads the same channel from its own position, with positional reads
+ * only, so the streams don't wait for each other, unlike the ones of
+ * {@link SyncInput}. No lock is taken after the file is opened:</p>
+ *
+ * <pre> try (SharedFileInput report = new SharedFileInput(path)) {
+ *   // give the input to all the worker threads
+ * }</pre>
+ *
+ * <p>Closing a stream doesn't close the file; closing the input does.
+ * Pay attention that a thread interrupted while reading closes the
+ * channel for all the streams, as {@link FileChannel} does.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 0.37
+ */
+public final class SharedFileInput implements Input, Closeable {
+
+    /**
+     * The channel, opened by the first stream.
+     */
+    private final LazyChannel<FileChannel> channel;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public SharedFileInput(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public SharedFileInput(final Path file) {
+        this(
+            new LazyChannel<FileChannel>(
+                () -> FileChannel.open(file, StandardOpenOption.READ)
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param chnl The channel, which is closed together with the input
+     */
+    public SharedFileInput(final FileChannel chnl) {
+        this(new LazyChannel<>(chnl));
+    }
+
+    /**
+     * Ctor.
+     * @param chnl The channel
+     */
+    private SharedFileInput(final LazyChannel<FileChannel> chnl) {
+        this.channel = chnl;
+    }
+
+    @Override
+    public InputStream stream() throws IOException {
+        return new PositionalInputStream(this.channel.value());
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
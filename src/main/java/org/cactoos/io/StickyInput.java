@@ -26,18 +26,30 @@ package org.cactoos.io;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
 import org.cactoos.scalar.IoCheckedScalar;
-import org.cactoos.scalar.StickyScalar;
 
 /**
  * Input that reads only once.
  *
- * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link SyncInput}.</p>
+ * <p>By default, the content is cached forever. With the time to live,
+ * it is read again when it is older. With the version, for example the
+ * modification time of a file, the version is asked after the time to
+ * live, and the content is read again only if the version changed:</p>
  *
- * <p>There is no thread-safety guarantee.
+ * <pre> Input config = new StickyInput(
+ *   new InputOf(path),
+ *   1000L,
+ *   () -&gt; Files.getLastModifiedTime(path).toMillis()
+ * );</pre>
+ *
+ * <p>The version is taken before the content is read, so a change in
+ * the middle of the reading is noticed next time. The concurrent
+ * readers wait for one reading in progress and share its result.</p>
+ *
+ * <p>This class is thread-safe.</p>
  *
  * @since 0.6
  */
@@ -53,14 +65,49 @@ public final class StickyInput implements Input {
      * @param input The input
      */
     public StickyInput(final Input input) {
-        this.cache = new StickyScalar<>(
+        this(input, Long.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param ttl Time to live, in milliseconds
+     * @since 0.37
+     */
+    public StickyInput(final Input input, final long ttl) {
+        this(input, ttl, new AtomicLong()::incrementAndGet);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param version The version of the input, asked every time
+     * @since 0.37
+     */
+    public StickyInput(final Input input, final Scalar<Long> version) {
+        this(input, 0L, version);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param ttl Time to live, in milliseconds
+     * @param version The version of the input, asked after the time
+     *  to live
+     * @since 0.37
+     */
+    public StickyInput(final Input input, final long ttl,
+        final Scalar<Long> version) {
+        this.cache = new RevalidatedScalar<>(
             () -> {
                 final ByteArrayOutputStream baos = new ByteArrayOutputStream();
                 new LengthOf(
                     new TeeInput(input, new OutputTo(baos))
                 ).value();
                 return baos.toByteArray();
-            }
+            },
+            ttl,
+            version
         );
     }
 
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Input;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.cactoos.scalar.StickyScalar;
+import org.cactoos.scalar.SyncScalar;
+import org.cactoos.scalar.UncheckedScalar;
+
+/**
+ * Asynchronous input, which reads a blocking {@link Input}
+ * in the background.
+ *
+ * <p>The chunks are read one after another by the executor.</p>
+ *
+ * <p>This class is for internal use only. Use {@link FutureInputOf}
+ * instead.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ */
+final class StreamFutureInput implements FutureInput {
+
+    /**
+     * The stream, opened on first use.
+     */
+    private final IoCheckedScalar<InputStream> stream;
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Size of a chunk.
+     */
+    private final int size;
+
+    /**
+     * The last chunk being read.
+     */
+    private CompletableFuture<ByteBuffer> last;
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param exec The executor
+     * @param max Size of a chunk
+     */
+    StreamFutureInput(final Input input, final ExecutorService exec,
+        final int max) {
+        this.stream = new IoCheckedScalar<>(
+            new SyncScalar<>(new StickyScalar<>(input::stream))
+        );
+        this.executor = exec;
+        this.size = max;
+        this.last = CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public synchronized CompletableFuture<ByteBuffer> read() {
+        this.last = this.last.thenApplyAsync(
+            prev -> new UncheckedScalar<>(
+                () -> {
+                    final byte[] buf = new byte[this.size];
+                    final InputStream src = this.stream.value();
+                    int done = 0;
+                    while (done < buf.length) {
+                        final int len = src.read(buf, done, buf.length - done);
+                        if (len < 0) {
+                            break;
+                        }
+                        done += len;
+                    }
+                    return ByteBuffer.wrap(buf, 0, done).asReadOnlyBuffer();
+                }
+            ).value(),
+            this.executor
+        );
+        return this.last;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.stream.value().close();
+    }
+}
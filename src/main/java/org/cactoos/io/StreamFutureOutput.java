@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Output;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.cactoos.scalar.StickyScalar;
+import org.cactoos.scalar.SyncScalar;
+import org.cactoos.scalar.UncheckedScalar;
+
+/**
+ * Asynchronous output, which writes to a blocking {@link Output}
+ * in the background.
+ *
+ * <p>The chunks are written one after another by the executor.</p>
+ *
+ * <p>This class is for internal use only. Use {@link FutureOutputTo}
+ * instead.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ */
+final class StreamFutureOutput implements FutureOutput {
+
+    /**
+     * The stream, opened on first use.
+     */
+    private final IoCheckedScalar<OutputStream> stream;
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The last chunk being written.
+     */
+    private CompletableFuture<Integer> last;
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param exec The executor
+     */
+    StreamFutureOutput(final Output output, final ExecutorService exec) {
+        this.stream = new IoCheckedScalar<>(
+            new SyncScalar<>(new StickyScalar<>(output::stream))
+        );
+        this.executor = exec;
+        this.last = CompletableFuture.completedFuture(0);
+    }
+
+    @Override
+    public synchronized CompletableFuture<Integer> write(
+        final ByteBuffer chunk) {
+        final ByteBuffer buffer = chunk.duplicate();
+        this.last = this.last.thenApplyAsync(
+            prev -> new UncheckedScalar<>(
+                () -> {
+                    final OutputStream tgt = this.stream.value();
+                    final int total = buffer.remaining();
+                    if (buffer.hasArray()) {
+                        tgt.write(
+                            buffer.array(),
+                            buffer.arrayOffset() + buffer.position(),
+                            total
+                        );
+                    } else {
+                        // @checkstyle MagicNumber (1 line)
+                        final byte[] buf = new byte[Math.min(total, 16 << 10)];
+                        while (buffer.hasRemaining()) {
+                            final int len = Math.min(
+                                buf.length, buffer.remaining()
+                            );
+                            buffer.get(buf, 0, len);
+                            tgt.write(buf, 0, len);
+                        }
+                    }
+                    return total;
+                }
+            ).value(),
+            this.executor
+        );
+        return this.last;
+    }
+
+    @Override
+    public void close() throws IOException {
+        final OutputStream tgt = this.stream.value();
+        try {
+            tgt.flush();
+        } finally {
+            tgt.close();
+        }
+    }
+}
@@ -31,6 +31,9 @@ import org.cactoos.Input;
  *
  * <p>Objects of this class are thread safe.</p>
  *
+ * <p>A file, which many threads read at the same time, is better read
+ * with {@link SharedFileInput}, which doesn't lock.</p>
+ *
  * @since 0.18
  */
 public final class SyncInput implements Input {
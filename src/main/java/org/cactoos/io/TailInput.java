@@ -24,14 +24,22 @@
 package org.cactoos.io;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import org.cactoos.Input;
-import org.cactoos.scalar.MinOf;
-import org.cactoos.text.FormattedText;
 
 /**
  * Input showing only last N bytes of the stream.
  *
+ * <p>A file is not read entirely: its last N bytes are read right away,
+ * from their position, so it takes the same time to tail a small file
+ * and a multi-gigabyte one. Any other input is read through to the end,
+ * keeping the last N bytes only.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.30
@@ -39,19 +47,50 @@ import org.cactoos.text.FormattedText;
 public final class TailInput implements Input {
 
     /**
-     * Input to decorate.
+     * The tail.
      */
-    private final Input input;
+    private final Input origin;
 
     /**
-     * Number of last bytes to show from the input.
+     * Ctor.
+     * @param file File to tail
+     * @param bytes Number of last bytes to show from the file
+     * @since 0.37
      */
-    private final int count;
+    public TailInput(final File file, final int bytes) {
+        this(file.toPath(), bytes);
+    }
 
     /**
-     * Maximum number of bytes to read at once.
+     * Ctor.
+     * @param path Path of the file to tail
+     * @param bytes Number of last bytes to show from the file
+     * @since 0.37
      */
-    private final int max;
+    public TailInput(final Path path, final int bytes) {
+        this(
+            () -> {
+                try (final FileChannel channel = FileChannel.open(
+                    path, StandardOpenOption.READ
+                )) {
+                    final long size = channel.size();
+                    final long start = Math.max(0L, size - bytes);
+                    final ByteBuffer buffer = ByteBuffer.allocate(
+                        (int) (size - start)
+                    );
+                    int read = 0;
+                    while (buffer.hasRemaining() && read >= 0) {
+                        read = channel.read(
+                            buffer, start + buffer.position()
+                        );
+                    }
+                    return new ByteArrayInputStream(
+                        buffer.array(), 0, buffer.position()
+                    );
+                }
+            }
+        );
+    }
 
     /**
      * Constructor.
@@ -70,72 +109,33 @@ public final class TailInput implements Input {
      * @param maximum Maximum number of bytes to read at once
      */
     public TailInput(final Input inpt, final int bytes, final int maximum) {
-        this.input = inpt;
-        this.count = bytes;
-        this.max = maximum;
-    }
-
-    @Override
-    public InputStream stream() throws Exception {
-        if (this.max < this.count) {
-            throw new IllegalArgumentException(
-                new FormattedText(
-                    "Can't tail %d bytes if buffer is set to %d",
-                    this.count, this.max
-                ).asString()
-            );
-        }
-        final byte[] buffer = new byte[this.max];
-        final byte[] response = new byte[this.count];
-        int num = 0;
-        final InputStream strm = this.input.stream();
-        for (int read = strm.read(buffer); read > 0; read = strm.read(buffer)) {
-            if (read < this.max && read < this.count) {
-                num = this.copyPartial(buffer, response, num, read);
-            } else {
-                num = this.copy(buffer, response, read);
-            }
-        }
-        return new ByteArrayInputStream(response, 0, num);
+        this(inpt, bytes, maximum, ThreadBufferPool.DEFAULT);
     }
 
     /**
-     * Copy full buffer to response.
-     * @param buffer The buffer array
-     * @param response The response array
-     * @param read Number of bytes read in buffer
-     * @return Number of bytes in the response buffer
+     * Ctor.
+     * @param inpt Input to decorate
+     * @param bytes Number of last bytes to show from input
+     * @param maximum Maximum number of bytes to read at once
+     * @param buffers The pool of buffers
+     * @since 0.37
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    private int copy(final byte[] buffer, final byte[] response,
-        final int read) {
-        System.arraycopy(
-            buffer, read - this.count, response, 0, this.count
-        );
-        return new MinOf(this.count, read).intValue();
+    public TailInput(final Input inpt, final int bytes, final int maximum,
+        final BufferPool buffers) {
+        this(new StreamTailInput(inpt, bytes, maximum, buffers));
     }
 
     /**
-     * Copy buffer to response for read count smaller then buffer size.
-     * @param buffer The buffer array
-     * @param response The response array
-     * @param num Number of bytes in response array from previous read
-     * @param read Number of bytes read in the buffer
-     * @return New count of bytes in the response array
-     * @checkstyle ParameterNumberCheck (3 lines)
+     * Ctor.
+     * @param tail The tail
      */
-    private int copyPartial(final byte[] buffer, final byte[] response,
-        final int num, final int read) {
-        final int result;
-        if (num > 0) {
-            System.arraycopy(
-                response, read, response, 0, this.count - read
-            );
-            System.arraycopy(buffer, 0, response, this.count - read, read);
-            result = this.count;
-        } else {
-            System.arraycopy(buffer, 0, response, 0, read);
-            result = read;
-        }
-        return result;
+    private TailInput(final Input tail) {
+        this.origin = tail;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return this.origin.stream();
     }
 }
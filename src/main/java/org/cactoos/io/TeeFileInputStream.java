@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Stream that copies one file to another one, writing in the kernel.
+ *
+ * <p>The bytes are written from the source file to the target
+ * file with {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)}, without passing them through
+ * the heap. The bytes that are read from this stream are also read from
+ * the source file into the buffer of the caller, so they are read from
+ * the source twice. The bytes that are skipped are copied to the target
+ * file without reading them into the heap at all.</p>
+ *
+ * <p>This class is for internal use only. Use {@link TeeInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class TeeFileInputStream extends InputStream {
+
+    /**
+     * Source channel.
+     */
+    private final FileChannel input;
+
+    /**
+     * Target channel.
+     */
+    private final FileChannel output;
+
+    /**
+     * Buffer for {@link #read()}.
+     */
+    private final byte[] single;
+
+    /**
+     * Current position in the source.
+     */
+    private long position;
+
+    /**
+     * Ctor.
+     * @param src Source of data
+     * @param tgt Destination of data
+     */
+    TeeFileInputStream(final FileChannel src, final FileChannel tgt) {
+        super();
+        this.input = src;
+        this.output = tgt;
+        this.single = new byte[1];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int data;
+        if (this.read(this.single, 0, 1) < 0) {
+            data = -1;
+        } else {
+            data = Byte.toUnsignedInt(this.single[0]);
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf) throws IOException {
+        return this.read(buf, 0, buf.length);
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset,
+        final int len) throws IOException {
+        final int max;
+        if (len == 0) {
+            max = 0;
+        } else {
+            max = this.input.read(
+                ByteBuffer.wrap(buf, offset, len), this.position
+            );
+            if (max > 0) {
+                this.transfer(max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        final long max = Math.max(
+            0L, Math.min(num, this.input.size() - this.position)
+        );
+        this.transfer(max);
+        return max;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(
+            (long) Integer.MAX_VALUE,
+            Math.max(0L, this.input.size() - this.position)
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.input.close();
+        } finally {
+            this.output.close();
+        }
+    }
+
+    /**
+     * Copy the next bytes of the source to the target and move forward.
+     * @param len How many bytes to copy
+     * @throws IOException If fails
+     */
+    private void transfer(final long len) throws IOException {
+        long done = 0L;
+        while (done < len) {
+            final long sent = this.input.transferTo(
+                this.position + done, len - done, this.output
+            );
+            if (sent <= 0L) {
+                throw new IOException(
+                    String.format(
+                        "Can't copy %d bytes at position %d to the target",
+                        len - done, this.position + done
+                    )
+                );
+            }
+            done += sent;
+        }
+        this.position += len;
+    }
+}
@@ -29,8 +29,10 @@ import java.io.Reader;
 import java.io.Writer;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
 import org.cactoos.Output;
@@ -39,6 +41,16 @@ import org.cactoos.Text;
 /**
  * Input to Output copying pipe.
  *
+ * <p>When both the source and the target are files, the bytes are
+ * written to the target by the kernel, with
+ * {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)}, not from the heap. Only this
+ * write side is zero-copy: the bytes read from the stream are still read
+ * from the source into the buffer of the reader, so reading it to the
+ * end, for example with {@link LengthOf}, reads the source twice. Only
+ * the bytes skipped with {@link java.io.InputStream#skip(long)} are never
+ * copied to the heap.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
@@ -46,14 +58,9 @@ import org.cactoos.Text;
 public final class TeeInput implements Input {
 
     /**
-     * The source.
-     */
-    private final Input source;
-
-    /**
-     * The destination.
+     * The input, which copies while being read.
      */
-    private final Output target;
+    private final Input origin;
 
     /**
      * Ctor.
@@ -117,12 +124,42 @@ public final class TeeInput implements Input {
 
     /**
      * Ctor.
+     *
+     * <p>The bytes are written to the output file by the kernel, but the
+     * bytes read from the stream are read from the source into the heap
+     * too, see the class documentation.</p>
+     *
      * @param input The source
      * @param path The output file
      * @since 0.5
      */
     public TeeInput(final Path input, final Path path) {
-        this(new InputOf(input), new OutputTo(path));
+        this(
+            () -> {
+                path.toAbsolutePath().toFile().getParentFile().mkdirs();
+                final FileChannel src = FileChannel.open(
+                    input, StandardOpenOption.READ
+                );
+                boolean opened = false;
+                try {
+                    final InputStream stream = new TeeFileInputStream(
+                        src,
+                        FileChannel.open(
+                            path,
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE,
+                            StandardOpenOption.TRUNCATE_EXISTING
+                        )
+                    );
+                    opened = true;
+                    return stream;
+                } finally {
+                    if (!opened) {
+                        src.close();
+                    }
+                }
+            }
+        );
     }
 
     /**
@@ -132,7 +169,7 @@ public final class TeeInput implements Input {
      * @since 0.5
      */
     public TeeInput(final Path input, final File file) {
-        this(new InputOf(input), new OutputTo(file));
+        this(input, file.toPath());
     }
 
     /**
@@ -152,7 +189,7 @@ public final class TeeInput implements Input {
      * @since 0.5
      */
     public TeeInput(final File input, final File file) {
-        this(new InputOf(input), new OutputTo(file));
+        this(input.toPath(), file.toPath());
     }
 
     /**
@@ -162,7 +199,7 @@ public final class TeeInput implements Input {
      * @since 0.5
      */
     public TeeInput(final File input, final Path path) {
-        this(new InputOf(input), new OutputTo(path));
+        this(input.toPath(), path);
     }
 
     /**
@@ -857,15 +894,20 @@ public final class TeeInput implements Input {
      * @param output The target
      */
     public TeeInput(final Input input, final Output output) {
-        this.source = input;
-        this.target = output;
+        this(() -> new TeeInputStream(input.stream(), output.stream()));
+    }
+
+    /**
+     * Ctor.
+     * @param input The copying input
+     */
+    private TeeInput(final Input input) {
+        this.origin = input;
     }
 
     @Override
     public InputStream stream() throws Exception {
-        return new TeeInputStream(
-            this.source.stream(), this.target.stream()
-        );
+        return this.origin.stream();
     }
 
 }
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of byte arrays, which keeps a few of them for each thread.
+ *
+ * <p>Each thread has its own bounded set of buffers, so there is no
+ * contention between threads and a buffer never leaves the thread
+ * which released it. When there is no buffer of the requested size,
+ * a new one is made. When the thread already keeps as many buffers
+ * as allowed, or keeping a released buffer would exceed the budget of
+ * bytes of the thread, the buffer is left to the garbage collector.
+ * So a big buffer, which doesn't fit the budget, is never kept, and
+ * the memory pinned by each thread is bounded.</p>
+ *
+ * <p>{@link #hits()} and {@link #misses()} tell how effective the pool
+ * is. Many misses with a stable load mean that the capacity is too
+ * small, or that the buffers are requested in many different sizes.</p>
+ *
+ * <p>The objects from this package, which copy data through
+ * a temporary buffer, use {@link #DEFAULT} unless another pool is
+ * given to them.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ */
+public final class ThreadBufferPool implements BufferPool {
+
+    /**
+     * The pool used by default, keeping up to four buffers per thread,
+     * no more than 256 KB in total.
+     */
+    public static final ThreadBufferPool DEFAULT =
+        new ThreadBufferPool(4, 256L << 10);
+
+    /**
+     * Buffers of each thread.
+     */
+    private final ThreadLocal<Deque<byte[]>> buffers;
+
+    /**
+     * Max amount of buffers kept by one thread.
+     */
+    private final int capacity;
+
+    /**
+     * Max amount of bytes kept by one thread.
+     */
+    private final long budget;
+
+    /**
+     * Amount of buffers taken from the pool.
+     */
+    private final LongAdder taken;
+
+    /**
+     * Amount of buffers made because the pool didn't have them.
+     */
+    private final LongAdder made;
+
+    /**
+     * Ctor.
+     * @param max Max amount of buffers kept by one thread
+     */
+    public ThreadBufferPool(final int max) {
+        // @checkstyle MagicNumber (1 line)
+        this(max, 256L << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param max Max amount of buffers kept by one thread
+     * @param bytes Max amount of bytes kept by one thread
+     */
+    public ThreadBufferPool(final int max, final long bytes) {
+        this.buffers = ThreadLocal.withInitial(() -> new ArrayDeque<>(max));
+        this.capacity = max;
+        this.budget = bytes;
+        this.taken = new LongAdder();
+        this.made = new LongAdder();
+    }
+
+    @Override
+    public byte[] acquire(final int size) {
+        byte[] buffer = null;
+        final Iterator<byte[]> kept = this.buffers.get().iterator();
+        while (kept.hasNext()) {
+            final byte[] next = kept.next();
+            if (next.length == size) {
+                kept.remove();
+                buffer = next;
+                break;
+            }
+        }
+        if (buffer == null) {
+            this.made.increment();
+            buffer = new byte[size];
+        } else {
+            this.taken.increment();
+        }
+        return buffer;
+    }
+
+    @Override
+    public void release(final byte[] buffer) {
+        final Deque<byte[]> kept = this.buffers.get();
+        if (kept.size() < this.capacity) {
+            long total = (long) buffer.length;
+            for (final byte[] other : kept) {
+                total += (long) other.length;
+            }
+            if (total <= this.budget) {
+                kept.push(buffer);
+            }
+        }
+    }
+
+    /**
+     * Amount of requests served by a buffer from the pool.
+     * @return Amount of hits
+     */
+    public long hits() {
+        return this.taken.sum();
+    }
+
+    /**
+     * Amount of requests served by a new buffer.
+     * @return Amount of misses
+     */
+    public long misses() {
+        return this.made.sum();
+    }
+}
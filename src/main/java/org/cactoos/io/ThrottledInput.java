@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import org.cactoos.Input;
+
+/**
+ * Input, which is read no faster than the given amount of bytes
+ * per second.
+ *
+ * <p>The limit is a {@link TokenBucket}, which may be shared by many
+ * inputs and outputs to limit their total rate.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+public final class ThrottledInput implements Input {
+
+    /**
+     * The input.
+     */
+    private final Input origin;
+
+    /**
+     * The bucket.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param bps Bytes per second
+     */
+    public ThrottledInput(final Input input, final long bps) {
+        this(input, new TokenBucket(bps));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param tokens The bucket
+     */
+    public ThrottledInput(final Input input, final TokenBucket tokens) {
+        this.origin = input;
+        this.bucket = tokens;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return new ThrottledInputStream(this.origin.stream(), this.bucket);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+/**
+ * Input stream, which reads no faster than the bucket allows.
+ *
+ * <p>Every read asks the original stream for no more than the burst
+ * of the bucket and takes the bytes read from it.</p>
+ *
+ * <p>This class is for internal use only. Use {@link ThrottledInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class ThrottledInputStream extends InputStream {
+
+    /**
+     * The original stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * The bucket.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param tokens The bucket
+     */
+    ThrottledInputStream(final InputStream stream, final TokenBucket tokens) {
+        super();
+        this.origin = stream;
+        this.bucket = tokens;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int data = this.origin.read();
+        if (data >= 0) {
+            this.take(1L);
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final int read = this.origin.read(
+            buf, off, (int) Math.min((long) len, this.bucket.burst())
+        );
+        if (read > 0) {
+            this.take((long) read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        final long skipped = this.origin.skip(
+            Math.min(num, this.bucket.burst())
+        );
+        if (skipped > 0L) {
+            this.take(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.origin.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Take the tokens.
+     * @param amount Amount of bytes
+     * @throws IOException If interrupted
+     */
+    private void take(final long amount) throws IOException {
+        try {
+            this.bucket.take(amount);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream, which writes no faster than the bucket allows.
+ *
+ * <p>The bytes are written in pieces no bigger than the burst
+ * of the bucket, every piece after its tokens are taken.</p>
+ *
+ * <p>This class is for internal use only. Use {@link ThrottledOutput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+final class ThrottledOutputStream extends OutputStream {
+
+    /**
+     * The original stream.
+     */
+    private final OutputStream origin;
+
+    /**
+     * The bucket.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param tokens The bucket
+     */
+    ThrottledOutputStream(final OutputStream stream,
+        final TokenBucket tokens) {
+        super();
+        this.origin = stream;
+        this.bucket = tokens;
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.take(1L);
+        this.origin.write(data);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        int pos = off;
+        final int end = off + len;
+        while (pos < end) {
+            final int piece = (int) Math.min(
+                (long) (end - pos), this.bucket.burst()
+            );
+            this.take((long) piece);
+            this.origin.write(buf, pos, piece);
+            pos += piece;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Take the tokens.
+     * @param amount Amount of bytes
+     * @throws IOException If interrupted
+     */
+    private void take(final long amount) throws IOException {
+        try {
+            this.bucket.take(amount);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+    }
+}
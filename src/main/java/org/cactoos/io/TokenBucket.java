@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket, which limits the amount of bytes per second.
+ *
+ * <p>The bucket is refilled at the rate, up to the burst. Taking more
+ * tokens than there are in the bucket puts it into debt, and the caller
+ * waits until the debt is paid, so the average rate never goes above
+ * the limit, while the callers queue up in order. One bucket may be
+ * shared by many {@link ThrottledInput} and {@link ThrottledOutput}
+ * to limit their total rate:</p>
+ *
+ * <pre> TokenBucket disk = new TokenBucket(50L &lt;&lt; 20);
+ * Output first = new ThrottledOutput(new OutputTo(one), disk);
+ * Output second = new ThrottledOutput(new OutputTo(two), disk);</pre>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.37
+ */
+public final class TokenBucket {
+
+    /**
+     * Nanoseconds in a second.
+     */
+    private static final double NANOS = 1.0e9;
+
+    /**
+     * Bytes per second.
+     */
+    private final long rate;
+
+    /**
+     * Max amount of tokens in the bucket.
+     */
+    private final long burst;
+
+    /**
+     * Amount of tokens in the bucket, negative when in debt.
+     */
+    private double tokens;
+
+    /**
+     * When the bucket was refilled last time, in nanoseconds.
+     */
+    private long refilled;
+
+    /**
+     * Ctor.
+     * @param bps Bytes per second, which is also the burst
+     */
+    public TokenBucket(final long bps) {
+        this(bps, bps);
+    }
+
+    /**
+     * Ctor.
+     * @param bps Bytes per second
+     * @param max Max amount of bytes, which can be taken at once
+     *  without waiting
+     */
+    public TokenBucket(final long bps, final long max) {
+        if (bps <= 0L || max <= 0L) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The rate %d and the burst %d must be positive",
+                    bps, max
+                )
+            );
+        }
+        this.rate = bps;
+        this.burst = max;
+        this.tokens = (double) max;
+        this.refilled = System.nanoTime();
+    }
+
+    /**
+     * Take the tokens, waiting until they are available.
+     * @param amount Amount of bytes
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public void take(final long amount) throws InterruptedException {
+        final long wait = this.reserve(amount);
+        if (wait > 0L) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Max amount of bytes, which can be taken at once without waiting.
+     * @return Amount of bytes
+     */
+    public long burst() {
+        return this.burst;
+    }
+
+    /**
+     * Refill the bucket and take the tokens from it.
+     * @param amount Amount of bytes
+     * @return How long to wait until the debt is paid, in nanoseconds
+     */
+    private synchronized long reserve(final long amount) {
+        final long now = System.nanoTime();
+        this.tokens = Math.min(
+            (double) this.burst,
+            this.tokens + (double) (now - this.refilled) * this.rate
+                / TokenBucket.NANOS
+        );
+        this.refilled = now;
+        this.tokens -= (double) amount;
+        long wait = 0L;
+        if (this.tokens < 0.0) {
+            wait = (long) (-this.tokens * TokenBucket.NANOS / this.rate);
+        }
+        return wait;
+    }
+}
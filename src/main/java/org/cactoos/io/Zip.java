@@ -24,24 +24,27 @@
 
 package org.cactoos.io;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.InputStream;
-import java.nio.file.Path;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.zip.Deflater;
 import org.cactoos.Input;
 
 /**
  * Zip files and directory.
- * <br>
+ *
+ * <p>The archive is made while its stream is read, one small portion at
+ * a time, so zipping a big directory doesn't need much memory:</p>
+ *
+ * <pre> new LengthOf(
+ *   new TeeInput(
+ *     new Zip(new Directory(Paths.get("/var/log"))),
+ *     new OutputTo(Paths.get("/tmp/logs.zip"))
+ *   )
+ * ).longValue();</pre>
+ *
  * <br>There is no thread-safety guarantee.
  *
  * @since 0.29
  */
-@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
 public final class Zip implements Input {
 
     /**
@@ -49,35 +52,36 @@ public final class Zip implements Input {
      */
     private final Directory origin;
 
+    /**
+     * Compression level.
+     */
+    private final int level;
+
     /**
      * Ctor.
      *
      * @param origin Origin directory.
      */
     public Zip(final Directory origin) {
+        this(origin, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin directory.
+     * @param lvl Compression level, from {@link Deflater#NO_COMPRESSION}
+     *  to {@link Deflater#BEST_COMPRESSION}
+     * @since 0.37
+     */
+    public Zip(final Directory origin, final int lvl) {
         this.origin = origin;
+        this.level = lvl;
     }
 
     @Override
     public InputStream stream() throws Exception {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (final ZipOutputStream zip = new ZipOutputStream(out)) {
-            for (final Path path : this.origin) {
-                final File file = path.toFile();
-                final ZipEntry entry = new ZipEntry(
-                    file.getPath()
-                );
-                zip.putNextEntry(entry);
-                if (file.isFile()) {
-                    try (
-                        final FileInputStream input = new FileInputStream(file)
-                    ) {
-                        zip.write(new BytesOf(new InputOf(input)).asBytes());
-                    }
-                }
-                zip.closeEntry();
-            }
-        }
-        return new ByteArrayInputStream(out.toByteArray());
+        // @checkstyle MagicNumber (1 line)
+        return new ZipStream(this.origin.iterator(), this.level, 16 << 10);
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Stream of a zip archive, which is made while the stream is read.
+ *
+ * <p>Every read compresses only as much of the files as needed to
+ * return some bytes, so the memory doesn't depend on the size of
+ * the files.</p>
+ *
+ * <p>This class is for internal use only. Use {@link Zip} instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.37
+ */
+@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+final class ZipStream extends InputStream {
+
+    /**
+     * Files to zip.
+     */
+    private final Iterator<Path> paths;
+
+    /**
+     * Compressed bytes, not read yet.
+     */
+    private final ByteArrayOutputStream sink;
+
+    /**
+     * The archive, which writes to the sink.
+     */
+    private final ZipOutputStream zip;
+
+    /**
+     * Buffer for reading the files.
+     */
+    private final byte[] buffer;
+
+    /**
+     * Buffer for {@link #read()}.
+     */
+    private final byte[] single;
+
+    /**
+     * Compressed bytes being read now.
+     */
+    private byte[] pending;
+
+    /**
+     * Position in the pending bytes.
+     */
+    private int position;
+
+    /**
+     * The file being compressed now, if any.
+     */
+    private InputStream current;
+
+    /**
+     * Whether the archive is finished.
+     */
+    private boolean finished;
+
+    /**
+     * Ctor.
+     * @param files Files to zip
+     * @param level Compression level, see {@link java.util.zip.Deflater}
+     * @param max Size of the buffer for reading the files
+     */
+    ZipStream(final Iterator<Path> files, final int level, final int max) {
+        super();
+        this.paths = files;
+        this.sink = new ByteArrayOutputStream(max);
+        this.zip = new ZipOutputStream(this.sink);
+        this.zip.setLevel(level);
+        this.buffer = new byte[max];
+        this.pending = new byte[0];
+        this.single = new byte[1];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int data;
+        if (this.read(this.single, 0, 1) < 0) {
+            data = -1;
+        } else {
+            data = Byte.toUnsignedInt(this.single[0]);
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset,
+        final int len) throws IOException {
+        int max = 0;
+        if (len > 0) {
+            while (this.position >= this.pending.length && this.advance()) {
+                continue;
+            }
+            if (this.position < this.pending.length) {
+                max = Math.min(len, this.pending.length - this.position);
+                System.arraycopy(this.pending, this.position, buf, offset, max);
+                this.position += max;
+            } else {
+                max = -1;
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public int available() {
+        return this.pending.length - this.position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.finished = true;
+        this.pending = new byte[0];
+        this.position = 0;
+        try {
+            if (this.paths instanceof Closeable) {
+                ((Closeable) this.paths).close();
+            }
+        } finally {
+            try {
+                this.zip.close();
+            } finally {
+                if (this.current != null) {
+                    this.current.close();
+                    this.current = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Make the next portion of the archive.
+     * @return FALSE if the archive is over
+     * @throws IOException If fails
+     */
+    private boolean advance() throws IOException {
+        boolean more = true;
+        if (this.current != null) {
+            final int len = this.current.read(this.buffer);
+            if (len < 0) {
+                this.current.close();
+                this.current = null;
+                this.zip.closeEntry();
+            } else {
+                this.zip.write(this.buffer, 0, len);
+            }
+        } else if (this.paths.hasNext()) {
+            final File file = this.paths.next().toFile();
+            this.zip.putNextEntry(new ZipEntry(file.getPath()));
+            if (file.isFile()) {
+                this.current = new FileInputStream(file);
+            } else {
+                this.zip.closeEntry();
+            }
+        } else if (this.finished) {
+            more = false;
+        } else {
+            this.zip.close();
+            this.finished = true;
+        }
+        this.pending = this.sink.toByteArray();
+        this.position = 0;
+        this.sink.reset();
+        return more;
+    }
+}
@@ -23,8 +23,10 @@
  */
 package org.cactoos.scalar;
 
+import java.nio.ByteBuffer;
 import org.cactoos.Bytes;
 import org.cactoos.Scalar;
+import org.cactoos.io.BufferOf;
 
 /**
  * Equality.
@@ -34,6 +36,12 @@ import org.cactoos.Scalar;
  *         the value {@code -1} if {@code x < y};
  *         the value {@code 1} if {@code x > y}
  *
+ * <p>The bytes are compared through their {@link ByteBuffer} views,
+ * see {@link BufferOf}, so they are not copied when they are
+ * {@link org.cactoos.BufferBytes}. To compare big inputs without
+ * loading them into memory, or secrets in constant time, see
+ * {@link org.cactoos.io.SameContent}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <T> Type of input
@@ -63,21 +71,22 @@ public final class Equality<T extends Bytes> implements Scalar<Integer> {
 
     @Override
     public Integer value() throws Exception {
-        final byte[] lft = this.left.asBytes();
-        final byte[] rght = this.right.asBytes();
+        final ByteBuffer lft = new BufferOf(this.left).value();
+        final ByteBuffer rght = new BufferOf(this.right).value();
         return new Ternary<>(
-            () -> lft.length == rght.length,
+            () -> lft.remaining() == rght.remaining(),
             () -> {
                 int result = 0;
-                for (int idx = rght.length - 1; idx >= 0; --idx) {
-                    result = lft[idx] - rght[idx];
+                for (int idx = rght.remaining() - 1; idx >= 0; --idx) {
+                    result = lft.get(lft.position() + idx)
+                        - rght.get(rght.position() + idx);
                     if (result != 0) {
                         break;
                     }
                 }
                 return Integer.signum(result);
             },
-            () -> Integer.signum(lft.length - rght.length)
+            () -> Integer.signum(lft.remaining() - rght.remaining())
         ).value();
     }
 }
@@ -79,4 +79,20 @@ public final class HexBytesTest {
     public void invalidHex() throws Exception {
         new HexBytes(new TextOf("ABG!")).asBytes();
     }
+
+    @Test
+    public void upperCaseHex() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't convert upper case hexadecimal text to bytes",
+            new HexBytes(new TextOf("0AfF")).asBytes(),
+            new MatcherOf<>(
+                (byte[] array) -> Arrays.equals(new byte[] {10, -1}, array)
+            )
+        );
+    }
+
+    @Test(expected = IOException.class)
+    public void nonAsciiHex() throws Exception {
+        new HexBytes(new TextOf("\u0661\u0662")).asBytes();
+    }
 }
@@ -0,0 +1,238 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link AsyncOutput}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class AsyncOutputTest {
+
+    /**
+     * Temporary files and directories.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writesAllContent() throws Exception {
+        final byte[] content = new byte[100_000];
+        new Random().nextBytes(content);
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (final OutputStream out = new AsyncOutput(
+            new OutputTo(target), 1000, 10L
+        ).stream()) {
+            for (int pos = 0; pos < content.length; pos += 7) {
+                out.write(
+                    content, pos, Math.min(7, content.length - pos)
+                );
+            }
+        }
+        MatcherAssert.assertThat(
+            target.toByteArray(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void coalescesSmallWrites() throws Exception {
+        final AtomicInteger writes = new AtomicInteger();
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (final OutputStream out = new AsyncOutput(
+            () -> new CountingStream(target, writes), 10_000, 60_000L
+        ).stream()) {
+            for (int idx = 0; idx < 10_000; ++idx) {
+                out.write(idx);
+            }
+        }
+        MatcherAssert.assertThat(
+            target.size(),
+            Matchers.equalTo(10_000)
+        );
+        MatcherAssert.assertThat(
+            writes.get(),
+            Matchers.lessThan(10)
+        );
+    }
+
+    @Test(timeout = 10_000L)
+    public void flushesEverythingWritten() throws Exception {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (final OutputStream out = new AsyncOutput(
+            new OutputTo(target), 1000, 60_000L
+        ).stream()) {
+            out.write(new byte[] {1, 2, 3});
+            out.flush();
+            MatcherAssert.assertThat(
+                target.toByteArray(),
+                Matchers.equalTo(new byte[] {1, 2, 3})
+            );
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void writesAfterInterval() throws Exception {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (final OutputStream out = new AsyncOutput(
+            new OutputTo(target), 1000, 10L
+        ).stream()) {
+            out.write(new byte[] {4, 5});
+            while (target.size() < 2) {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            }
+            MatcherAssert.assertThat(
+                target.toByteArray(),
+                Matchers.equalTo(new byte[] {4, 5})
+            );
+        }
+    }
+
+    @Test
+    public void writesDurableFile() throws Exception {
+        final File file = this.folder.newFile();
+        try (final OutputStream out = new AsyncOutput(
+            new OutputTo(file), 16, 10L, true
+        ).stream()) {
+            for (int idx = 0; idx < 100; ++idx) {
+                out.write('a' + idx % 26);
+            }
+        }
+        MatcherAssert.assertThat(
+            Files.size(file.toPath()),
+            Matchers.equalTo(100L)
+        );
+    }
+
+    @Test(timeout = 10_000L, expected = IOException.class)
+    public void throwsErrorOfTarget() throws Exception {
+        try (final OutputStream out = new AsyncOutput(
+            () -> new OutputStream() {
+                @Override
+                public void write(final int data) throws IOException {
+                    throw new IOException("Disk is full");
+                }
+            },
+            10, 10L
+        ).stream()) {
+            for (int idx = 0; idx < 100; ++idx) {
+                out.write(idx);
+            }
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void throwsUncheckedErrorOfTargetOnClose() throws Exception {
+        final OutputStream out = new AsyncOutput(
+            () -> new OutputStream() {
+                @Override
+                public void write(final int data) {
+                    throw new IllegalStateException("Broken target");
+                }
+            }
+        ).stream();
+        out.write(1);
+        IOException error = null;
+        try {
+            out.close();
+        } catch (final IOException ex) {
+            error = ex;
+        }
+        MatcherAssert.assertThat(
+            error.getCause(),
+            Matchers.instanceOf(IllegalStateException.class)
+        );
+    }
+
+    @Test(expected = IOException.class)
+    public void failsToWriteWhenClosed() throws Exception {
+        final OutputStream out = new AsyncOutput(
+            new OutputTo(new ByteArrayOutputStream())
+        ).stream();
+        out.close();
+        out.write(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWrongSize() throws Exception {
+        new AsyncOutput(new OutputTo(new ByteArrayOutputStream()), 0, 10L)
+            .stream();
+    }
+
+    /**
+     * Stream, which counts the writes.
+     */
+    private static final class CountingStream extends OutputStream {
+
+        /**
+         * The original stream.
+         */
+        private final OutputStream origin;
+
+        /**
+         * Amount of writes.
+         */
+        private final AtomicInteger writes;
+
+        /**
+         * Ctor.
+         * @param stream The original stream
+         * @param count Amount of writes
+         */
+        CountingStream(final OutputStream stream, final AtomicInteger count) {
+            super();
+            this.origin = stream;
+            this.writes = count;
+        }
+
+        @Override
+        public void write(final int data) throws IOException {
+            this.writes.incrementAndGet();
+            this.origin.write(data);
+        }
+
+        @Override
+        public void write(final byte[] buf, final int off, final int len)
+            throws IOException {
+            this.writes.incrementAndGet();
+            this.origin.write(buf, off, len);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+import org.cactoos.bytes.BytesBase64;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link Base64Input}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class Base64InputTest {
+
+    @Test
+    public void decodesText() throws Exception {
+        MatcherAssert.assertThat(
+            new TextOf(new Base64Input(new InputOf("SGVsbG8h"))).asString(),
+            Matchers.equalTo("Hello!")
+        );
+    }
+
+    @Test
+    public void decodesLongText() throws Exception {
+        final byte[] bytes = new byte[10_000];
+        new Random().nextBytes(bytes);
+        MatcherAssert.assertThat(
+            new BytesOf(
+                new Base64Input(
+                    new InputOf(new BytesBase64(new BytesOf(bytes))),
+                    Base64.getDecoder(),
+                    100
+                )
+            ).asBytes(),
+            Matchers.equalTo(bytes)
+        );
+    }
+
+    @Test(expected = IOException.class)
+    public void failsOnWrongText() throws Exception {
+        new BytesOf(new Base64Input(new InputOf("SGVs!G8h"))).asBytes();
+    }
+}
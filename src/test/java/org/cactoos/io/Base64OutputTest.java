@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.Random;
+import org.cactoos.bytes.BytesBase64;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link Base64Output}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class Base64OutputTest {
+
+    @Test
+    public void encodesBytes() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (final OutputStream output = new Base64Output(
+            new OutputTo(baos)
+        ).stream()) {
+            new LengthOf(
+                new TeeInput(new InputOf("Hello!"), new OutputTo(output))
+            ).value();
+        }
+        MatcherAssert.assertThat(
+            new String(baos.toByteArray()),
+            Matchers.equalTo("SGVsbG8h")
+        );
+    }
+
+    @Test
+    public void writesPaddingThroughTeeInputWhenClosed() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (final OutputStream output = new Base64Output(
+            new OutputTo(baos)
+        ).stream()) {
+            new LengthOf(
+                new TeeInput(new InputOf("hello"), new OutputTo(output))
+            ).value();
+        }
+        MatcherAssert.assertThat(
+            new String(baos.toByteArray()),
+            Matchers.equalTo("aGVsbG8=")
+        );
+    }
+
+    @Test
+    public void flushesOnlyCompleteGroupsThroughTeeInput() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new LengthOf(
+            new TeeInput(
+                new InputOf("hello"),
+                new Base64Output(new OutputTo(baos))
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            new String(baos.toByteArray()),
+            Matchers.equalTo("aGVs")
+        );
+    }
+
+    @Test
+    public void encodesManyBytesWithPadding() throws Exception {
+        final byte[] bytes = new byte[10_001];
+        new Random().nextBytes(bytes);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (final OutputStream output = new Base64Output(
+            new OutputTo(baos), Base64.getEncoder(), 100
+        ).stream()) {
+            new LengthOf(
+                new TeeInput(new InputOf(bytes), new OutputTo(output))
+            ).value();
+        }
+        MatcherAssert.assertThat(
+            baos.toByteArray(),
+            Matchers.equalTo(new BytesBase64(new BytesOf(bytes)).asBytes())
+        );
+    }
+}
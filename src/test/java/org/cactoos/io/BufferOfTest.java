@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import org.cactoos.BufferBytes;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link BufferOf}.
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class BufferOfTest {
+
+    @Test
+    public void wrapsPlainBytes() throws Exception {
+        MatcherAssert.assertThat(
+            new BufferOf(() -> new byte[] {1, 2, 3}).value(),
+            Matchers.equalTo(ByteBuffer.wrap(new byte[] {1, 2, 3}))
+        );
+    }
+
+    @Test
+    public void usesBufferOfBufferBytes() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1);
+        MatcherAssert.assertThat(
+            new BufferOf(
+                new BufferBytes() {
+                    @Override
+                    public ByteBuffer asBuffer() {
+                        return buffer;
+                    }
+
+                    @Override
+                    public byte[] asBytes() {
+                        throw new UnsupportedOperationException(
+                            "Bytes must not be copied"
+                        );
+                    }
+                }
+            ).value(),
+            Matchers.sameInstance(buffer)
+        );
+    }
+}
@@ -27,6 +27,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.cactoos.Text;
@@ -207,4 +208,41 @@ public final class BytesOfTest {
         );
     }
 
+    @Test
+    public void readsByteBufferWithoutCopying() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+        buffer.put(new byte[] {1, 2, 3, 4});
+        buffer.flip();
+        buffer.get();
+        MatcherAssert.assertThat(
+            "Can't read bytes from the position of the buffer",
+            new BytesOf(buffer).asBytes(),
+            Matchers.equalTo(new byte[] {2, 3, 4})
+        );
+        MatcherAssert.assertThat(
+            "Can't see the original buffer through a read-only view",
+            new BytesOf(buffer).asBuffer(),
+            Matchers.allOf(
+                Matchers.equalTo(buffer),
+                new MatcherOf<>(ByteBuffer::isReadOnly),
+                new MatcherOf<>(ByteBuffer::isDirect)
+            )
+        );
+    }
+
+    @Test
+    public void wrapsArrayIntoBuffer() throws Exception {
+        final byte[] bytes = {(byte) 1, (byte) 2};
+        final ByteBuffer buffer = new BytesOf(bytes).asBuffer();
+        bytes[0] = (byte) 0;
+        MatcherAssert.assertThat(
+            "Can't see the array through the buffer",
+            buffer,
+            Matchers.allOf(
+                Matchers.equalTo(ByteBuffer.wrap(new byte[] {0, 2})),
+                new MatcherOf<>(ByteBuffer::isReadOnly)
+            )
+        );
+    }
+
 }
@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Input;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link CachedInput}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class CachedInputTest {
+
+    /**
+     * Temporary files and directories.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsOriginOnce() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final AtomicInteger reads = new AtomicInteger();
+        final Input input = this.counted("Hello, cache!", reads);
+        MatcherAssert.assertThat(
+            new TextOf(new CachedInput(input, "hello", dir, 100L)).asString(),
+            Matchers.equalTo("Hello, cache!")
+        );
+        MatcherAssert.assertThat(
+            new TextOf(new CachedInput(input, "hello", dir, 100L)).asString(),
+            Matchers.equalTo("Hello, cache!")
+        );
+        MatcherAssert.assertThat(reads.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void separatesKeys() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        new TextOf(new CachedInput(new InputOf("first"), "a", dir, 100L))
+            .asString();
+        MatcherAssert.assertThat(
+            new TextOf(
+                new CachedInput(new InputOf("second"), "b", dir, 100L)
+            ).asString(),
+            Matchers.equalTo("second")
+        );
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final AtomicInteger first = new AtomicInteger();
+        final AtomicInteger second = new AtomicInteger();
+        final long now = System.currentTimeMillis();
+        new LengthOf(
+            new CachedInput(this.counted("aaaaa", first), "a", dir, 12L)
+        ).intValue();
+        this.age(dir, now - 100_000L);
+        new LengthOf(
+            new CachedInput(this.counted("bbbbb", second), "b", dir, 12L)
+        ).intValue();
+        this.age(dir, now - 50_000L);
+        new LengthOf(
+            new CachedInput(this.counted("aaaaa", first), "a", dir, 12L)
+        ).intValue();
+        new LengthOf(
+            new CachedInput(new InputOf("ccccc"), "c", dir, 12L)
+        ).intValue();
+        new LengthOf(
+            new CachedInput(this.counted("aaaaa", first), "a", dir, 12L)
+        ).intValue();
+        new LengthOf(
+            new CachedInput(this.counted("bbbbb", second), "b", dir, 12L)
+        ).intValue();
+        MatcherAssert.assertThat(first.get(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(second.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void leavesNoBrokenFile() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        boolean failed = false;
+        try {
+            new CachedInput(
+                () -> {
+                    throw new IOException("Network is down");
+                },
+                "broken", dir, 100L
+            ).stream();
+        } catch (final IOException ex) {
+            failed = true;
+        }
+        MatcherAssert.assertThat(failed, Matchers.is(true));
+        MatcherAssert.assertThat(
+            new org.cactoos.iterable.LengthOf(new Directory(dir, 1))
+                .intValue(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test(timeout = 30_000L)
+    public void survivesFilesDeletedByAnotherProcess() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final AtomicBoolean done = new AtomicBoolean();
+        final Thread cleaner = new Thread(
+            () -> {
+                while (!done.get()) {
+                    final File[] files = dir.toFile().listFiles();
+                    if (files != null) {
+                        for (final File file : files) {
+                            if (file.getName().endsWith(".cache")) {
+                                file.delete();
+                            }
+                        }
+                    }
+                }
+            }
+        );
+        cleaner.start();
+        try {
+            for (int idx = 0; idx < 300; ++idx) {
+                final String key = String.valueOf(idx % 7);
+                MatcherAssert.assertThat(
+                    new TextOf(
+                        new CachedInput(
+                            new InputOf(key), key, dir, 3L
+                        )
+                    ).asString(),
+                    Matchers.equalTo(key)
+                );
+            }
+        } finally {
+            done.set(true);
+            cleaner.join();
+        }
+    }
+
+    /**
+     * Input, which counts how many times it is read.
+     * @param content The content
+     * @param reads The counter
+     * @return Input
+     */
+    private Input counted(final String content, final AtomicInteger reads) {
+        return () -> {
+            reads.incrementAndGet();
+            return new InputOf(content).stream();
+        };
+    }
+
+    /**
+     * Make all the files in the directory look older.
+     * @param dir The directory
+     * @param millis When they were used
+     * @throws IOException If fails
+     */
+    private void age(final Path dir, final long millis) throws IOException {
+        for (final Path file : new Directory(dir, 1)) {
+            if (Files.isRegularFile(file)) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(millis));
+            }
+        }
+    }
+}
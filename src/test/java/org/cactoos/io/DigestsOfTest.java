@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.util.Map;
+import org.cactoos.Bytes;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link DigestsOf}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class DigestsOfTest {
+
+    @Test
+    public void calculatesAllDigests() throws Exception {
+        final String content = "Hello World!";
+        final Map<String, Bytes> sums = new DigestsOf(
+            new InputOf(content), "MD5", "SHA-1", "SHA-256"
+        ).value();
+        MatcherAssert.assertThat(
+            "Can't calculate MD5",
+            sums.get("MD5").asBytes(),
+            Matchers.equalTo(new Md5DigestOf(new InputOf(content)).asBytes())
+        );
+        MatcherAssert.assertThat(
+            "Can't calculate SHA-1",
+            sums.get("SHA-1").asBytes(),
+            Matchers.equalTo(new Sha1DigestOf(new InputOf(content)).asBytes())
+        );
+        MatcherAssert.assertThat(
+            "Can't calculate SHA-256",
+            sums.get("SHA-256").asBytes(),
+            Matchers.equalTo(
+                new Sha256DigestOf(new InputOf(content)).asBytes()
+            )
+        );
+    }
+
+    @Test
+    public void readsInputOnce() throws Exception {
+        final StringBuilder log = new StringBuilder();
+        new DigestsOf(
+            () -> {
+                log.append('x');
+                return new InputOf("data").stream();
+            },
+            "MD5", "SHA-1"
+        ).value();
+        MatcherAssert.assertThat(log.toString(), Matchers.equalTo("x"));
+    }
+
+    @Test(expected = IOException.class)
+    public void failsOnUnknownAlgorithm() throws Exception {
+        new DigestsOf(new InputOf("x"), "MD5", "XYZ-1").value();
+    }
+}
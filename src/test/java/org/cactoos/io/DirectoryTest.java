@@ -23,10 +23,13 @@
  */
 package org.cactoos.io;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
@@ -73,4 +76,100 @@ public final class DirectoryTest {
             Matchers.iterableWithSize(4)
         );
     }
+
+    @Test
+    public void limitsDepthOfWalk() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b/c").toFile().mkdirs();
+        MatcherAssert.assertThat(
+            new Directory(dir, 1),
+            Matchers.iterableWithSize(2)
+        );
+    }
+
+    @Test
+    public void filtersByGlob() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/one.txt"), "".getBytes());
+        Files.write(dir.resolve("a/two.txt"), "".getBytes());
+        Files.write(dir.resolve("a/three.bin"), "".getBytes());
+        MatcherAssert.assertThat(
+            new Directory(dir, Integer.MAX_VALUE, "**/*.txt"),
+            Matchers.containsInAnyOrder(
+                dir.resolve("a/b/one.txt"), dir.resolve("a/two.txt")
+            )
+        );
+    }
+
+    @Test
+    public void filtersByFunc() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("x/y").toFile().mkdirs();
+        MatcherAssert.assertThat(
+            new Directory(dir, Integer.MAX_VALUE, Files::isDirectory),
+            // @checkstyle MagicNumber (1 line)
+            Matchers.iterableWithSize(3)
+        );
+    }
+
+    @Test
+    public void walksLazily() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final Iterator<Path> files = new Directory(dir).iterator();
+        Files.write(dir.resolve("late.txt"), "".getBytes());
+        files.next();
+        MatcherAssert.assertThat(
+            "Can't see the file created after the walk is started",
+            files.next(),
+            Matchers.equalTo(dir.resolve("late.txt"))
+        );
+        MatcherAssert.assertThat(
+            "Can't see the end of the walk",
+            files.hasNext(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void closesAbandonedIterator() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        Files.write(dir.resolve("a.txt"), "".getBytes());
+        final Iterator<Path> files = new Directory(dir).iterator();
+        files.next();
+        ((Closeable) files).close();
+        MatcherAssert.assertThat(
+            "Can't close the walk",
+            files.hasNext(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void closesWalkWhenFilterFails() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        Files.write(dir.resolve("b.txt"), "".getBytes());
+        final Iterator<Path> files = new Directory(
+            dir, 1,
+            path -> {
+                throw new IOException("Can't filter");
+            }
+        ).iterator();
+        boolean failed = false;
+        try {
+            files.hasNext();
+        } catch (final UncheckedIOException ex) {
+            failed = true;
+        }
+        MatcherAssert.assertThat(
+            "Can't see the failure of the filter",
+            failed,
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Can't close the walk after the failure",
+            files.hasNext(),
+            Matchers.is(false)
+        );
+    }
 }
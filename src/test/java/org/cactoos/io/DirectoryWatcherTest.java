@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link DirectoryWatcher}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class DirectoryWatcherTest {
+
+    /**
+     * Temporary files and folders generator.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void waitsWhenNoMoreWatchersCanBeMade() throws Exception {
+        try (final WatchService service = new DirectoryWatcher(
+            this.folder.newFile().toPath(),
+            () -> {
+                throw new IOException("User limit of inotify instances");
+            }
+        ).value()) {
+            MatcherAssert.assertThat(
+                service,
+                Matchers.instanceOf(IdleWatchService.class)
+            );
+        }
+    }
+
+    @Test
+    public void waitsWhenFileSystemCantWatch() throws Exception {
+        final Path zip = this.folder.getRoot().toPath().resolve("a.zip");
+        try (final FileSystem zipfs = FileSystems.newFileSystem(
+            URI.create(String.format("jar:%s", zip.toUri())),
+            Collections.singletonMap("create", "true")
+        )) {
+            try (final WatchService service = new DirectoryWatcher(
+                zipfs.getPath("/file.txt")
+            ).value()) {
+                MatcherAssert.assertThat(
+                    service,
+                    Matchers.instanceOf(IdleWatchService.class)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void watchesDirectoryOfDefaultFileSystem() throws Exception {
+        try (final WatchService service = new DirectoryWatcher(
+            this.folder.newFile().toPath()
+        ).value()) {
+            MatcherAssert.assertThat(
+                service,
+                Matchers.not(Matchers.instanceOf(IdleWatchService.class))
+            );
+        }
+    }
+}
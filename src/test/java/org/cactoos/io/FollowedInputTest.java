@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link FollowedInput}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class FollowedInputTest {
+
+    /**
+     * Temporary files and folders generator.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsExistingContent() throws Exception {
+        final Path file = this.file("abc");
+        try (final InputStream input = new FollowedInput(file).stream()) {
+            MatcherAssert.assertThat(
+                this.read(input, 3),
+                Matchers.equalTo("abc")
+            );
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void waitsForAppendedBytes() throws Exception {
+        final Path file = this.file("one ");
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try (final InputStream input = new FollowedInput(file).stream()) {
+            this.read(input, 4);
+            final Future<?> append = exec.submit(
+                () -> {
+                    TimeUnit.MILLISECONDS.sleep(100L);
+                    return Files.write(
+                        file, "two".getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.APPEND
+                    );
+                }
+            );
+            MatcherAssert.assertThat(
+                this.read(input, 3),
+                Matchers.equalTo("two")
+            );
+            append.get();
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void followsTruncatedFile() throws Exception {
+        final Path file = this.file("long line");
+        try (final InputStream input = new FollowedInput(file).stream()) {
+            this.read(input, 9);
+            Files.write(file, "short".getBytes(StandardCharsets.UTF_8));
+            MatcherAssert.assertThat(
+                this.read(input, 5),
+                Matchers.equalTo("short")
+            );
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void followsRotatedFile() throws Exception {
+        final Path file = this.file("old");
+        try (final InputStream input = new FollowedInput(file).stream()) {
+            this.read(input, 3);
+            Files.move(file, file.resolveSibling("rotated.log"));
+            Files.write(file, "new".getBytes(StandardCharsets.UTF_8));
+            MatcherAssert.assertThat(
+                this.read(input, 3),
+                Matchers.equalTo("new")
+            );
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void stopsWhenClosed() throws Exception {
+        final Path file = this.file("");
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            final InputStream input = new FollowedInput(file).stream();
+            final Future<?> close = exec.submit(
+                () -> {
+                    TimeUnit.MILLISECONDS.sleep(100L);
+                    input.close();
+                    return input;
+                }
+            );
+            MatcherAssert.assertThat(input.read(), Matchers.equalTo(-1));
+            close.get();
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void pollsWithIdleWatcher() throws Exception {
+        final Path file = this.file("one ");
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try (final InputStream input = new FollowedInputStream(
+            file, new IdleWatchService(), 10L, 50L
+        )) {
+            this.read(input, 4);
+            final Future<?> append = exec.submit(
+                () -> {
+                    TimeUnit.MILLISECONDS.sleep(100L);
+                    return Files.write(
+                        file, "two".getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.APPEND
+                    );
+                }
+            );
+            MatcherAssert.assertThat(
+                this.read(input, 3),
+                Matchers.equalTo("two")
+            );
+            append.get();
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    public void releasesWatcherWhenFileIsMissing() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final OpenDescriptors fds = new OpenDescriptors(dir);
+        Assume.assumeTrue(fds.visible());
+        for (int idx = 0; idx < 50; ++idx) {
+            try {
+                new FollowedInput(dir.resolve("no.log")).stream().close();
+            } catch (final IOException ex) {
+                continue;
+            }
+        }
+        MatcherAssert.assertThat(fds.value(), Matchers.equalTo(0));
+    }
+
+    /**
+     * Create a file with the content.
+     * @param content The content
+     * @return Path of the file
+     * @throws Exception If fails
+     */
+    private Path file(final String content) throws Exception {
+        final Path file = this.folder.newFolder().toPath().resolve("app.log");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Read exactly the amount of bytes from the stream.
+     * @param input The stream
+     * @param len Amount of bytes
+     * @return The bytes read, as a string
+     * @throws Exception If fails
+     */
+    private String read(final InputStream input, final int len)
+        throws Exception {
+        final byte[] buf = new byte[len];
+        int done = 0;
+        while (done < len) {
+            done += input.read(buf, done, len - done);
+        }
+        return new String(buf, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link FutureInputOf}.
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class FutureInputOfTest {
+
+    /**
+     * Temporary files generator.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsFileChunkByChunk() throws Exception {
+        final byte[] content = this.random(1000);
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, content);
+        try (final FutureInput input = new FutureInputOf(path, 64)) {
+            MatcherAssert.assertThat(
+                this.drained(input),
+                Matchers.equalTo(content)
+            );
+        }
+    }
+
+    @Test
+    public void readsManyChunksOfFileAtOnce() throws Exception {
+        final byte[] content = this.random(1000);
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, content);
+        try (final FutureInput input = new FutureInputOf(path, 100)) {
+            final List<CompletableFuture<ByteBuffer>> chunks =
+                new ArrayList<>(11);
+            for (int idx = 0; idx < 11; ++idx) {
+                chunks.add(input.read());
+            }
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            for (final CompletableFuture<ByteBuffer> chunk : chunks) {
+                baos.write(new BytesOf(chunk.get()).asBytes());
+            }
+            MatcherAssert.assertThat(
+                baos.toByteArray(),
+                Matchers.equalTo(content)
+            );
+        }
+    }
+
+    @Test
+    public void readsInputInBackground() throws Exception {
+        final byte[] content = this.random(1000);
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try (final FutureInput input = new FutureInputOf(
+            new InputOf(new SlowInputStream(content.length)), exec, 64
+        )) {
+            MatcherAssert.assertThat(
+                this.drained(input).length,
+                Matchers.equalTo(content.length)
+            );
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void failsOnAbsentFile() throws Exception {
+        try (final FutureInput input = new FutureInputOf(
+            this.folder.getRoot().toPath().resolve("absent.txt")
+        )) {
+            input.read().get();
+        }
+    }
+
+    @Test
+    public void closesUnusedInputOfAbsentFile() throws Exception {
+        final FutureInput input = new FutureInputOf(
+            this.folder.getRoot().toPath().resolve("never.txt")
+        );
+        input.close();
+        MatcherAssert.assertThat(
+            input.read().isCompletedExceptionally(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Read all the chunks.
+     * @param input The input
+     * @return All the bytes
+     * @throws Exception If fails
+     */
+    private byte[] drained(final FutureInput input) throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CompletableFuture<ByteBuffer> next = input.read();
+        while (true) {
+            final ByteBuffer chunk = next.get();
+            if (!chunk.hasRemaining()) {
+                break;
+            }
+            next = input.read();
+            baos.write(new BytesOf(chunk).asBytes());
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Random bytes.
+     * @param size How many
+     * @return Bytes
+     */
+    private byte[] random(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
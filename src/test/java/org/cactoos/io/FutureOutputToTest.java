@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link FutureOutputTo}.
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class FutureOutputToTest {
+
+    /**
+     * Temporary files generator.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writesManyChunksToFileAtOnce() throws Exception {
+        final byte[] content = this.random(1000);
+        final Path path = this.folder.newFile().toPath();
+        try (final FutureOutput output = new FutureOutputTo(path)) {
+            this.written(output, content);
+        }
+        MatcherAssert.assertThat(
+            Files.readAllBytes(path),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void writesOutputInBackground() throws Exception {
+        final byte[] content = this.random(1000);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try (final FutureOutput output = new FutureOutputTo(
+            new OutputTo(baos), exec
+        )) {
+            this.written(output, content);
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            baos.toByteArray(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void writesDirectBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(3);
+        buffer.put(new byte[] {1, 2, 3});
+        buffer.flip();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try (final FutureOutput output = new FutureOutputTo(
+            new OutputTo(baos), exec
+        )) {
+            MatcherAssert.assertThat(
+                "Can't write all the bytes",
+                output.write(buffer).get(),
+                Matchers.equalTo(3)
+            );
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            baos.toByteArray(),
+            Matchers.equalTo(new byte[] {1, 2, 3})
+        );
+    }
+
+    @Test
+    public void doesNotCreateFileWhenUnused() throws Exception {
+        final Path path = this.folder.getRoot().toPath().resolve("none.txt");
+        new FutureOutputTo(path).close();
+        MatcherAssert.assertThat(Files.exists(path), Matchers.is(false));
+    }
+
+    /**
+     * Write the content in chunks, without waiting for each of them.
+     * @param output The output
+     * @param content The content
+     * @throws Exception If fails
+     */
+    private void written(final FutureOutput output, final byte[] content)
+        throws Exception {
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>(10);
+        for (int pos = 0; pos < content.length; pos += 100) {
+            futures.add(
+                output.write(
+                    ByteBuffer.wrap(Arrays.copyOfRange(content, pos, pos + 100))
+                )
+            );
+        }
+        for (final CompletableFuture<Integer> future : futures) {
+            future.get();
+        }
+    }
+
+    /**
+     * Random bytes.
+     * @param size How many
+     * @return Bytes
+     */
+    private byte[] random(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -28,6 +28,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.zip.GZIPInputStream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -39,6 +43,7 @@ import org.junit.rules.TemporaryFolder;
  * Test case for {@link org.cactoos.io.GzipOutput}.
  * @since 0.29
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public final class GzipOutputTest {
@@ -92,4 +97,81 @@ public final class GzipOutputTest {
             )
         ).value();
     }
+
+    @Test
+    public void writesBlocksInParallel() throws Exception {
+        final byte[] content = new byte[10_000];
+        new Random(0L).nextBytes(content);
+        final Path file = this.folder.newFile().toPath();
+        final ExecutorService exec = Executors.newFixedThreadPool(3);
+        try {
+            new LengthOf(
+                new TeeInput(
+                    new InputOf(content),
+                    new GzipOutput(new OutputTo(file), 1000, 2, exec)
+                )
+            ).value();
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            new BytesOf(new GzipInput(new InputOf(file))).asBytes(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void flushesIncompleteBlock() throws Exception {
+        final byte[] content = new byte[2500];
+        new Random(0L).nextBytes(content);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            new LengthOf(
+                new TeeInput(
+                    new InputOf(content),
+                    new GzipOutput(new OutputTo(baos), 1000, exec)
+                )
+            ).value();
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            new BytesOf(
+                new GzipInput(new InputOf(baos.toByteArray()))
+            ).asBytes(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void writesEmptyParallelOutput() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            new GzipOutput(new OutputTo(baos), exec).stream().close();
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            new BytesOf(
+                new GzipInput(new InputOf(baos.toByteArray()))
+            ).asBytes(),
+            Matchers.equalTo(new byte[0])
+        );
+    }
+
+    @Test(expected = IOException.class)
+    public void writeToClosedParallelOutput() throws Exception {
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            final OutputStream stream = new GzipOutput(
+                new OutputTo(new ByteArrayOutputStream()), exec
+            ).stream();
+            stream.close();
+            stream.write(1);
+        } finally {
+            exec.shutdown();
+        }
+    }
 }
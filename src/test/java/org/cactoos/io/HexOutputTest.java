@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import org.cactoos.text.HexOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link HexOutput}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class HexOutputTest {
+
+    @Test
+    public void encodesBytes() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new LengthOf(
+            new TeeInput(
+                new InputOf(new byte[] {0, -1, 127, 16}),
+                new HexOutput(new OutputTo(baos))
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            new String(baos.toByteArray()),
+            Matchers.equalTo("00ff7f10")
+        );
+    }
+
+    @Test
+    public void encodesBytesInSmallBlocks() throws Exception {
+        final byte[] bytes = new byte[1000];
+        new Random().nextBytes(bytes);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new LengthOf(
+            new TeeInput(
+                new InputOf(bytes),
+                new HexOutput(new OutputTo(baos), 7)
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            new String(baos.toByteArray()),
+            Matchers.equalTo(new HexOf(new BytesOf(bytes)).asString())
+        );
+    }
+}
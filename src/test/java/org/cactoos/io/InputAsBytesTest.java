@@ -23,8 +23,11 @@
  */
 package org.cactoos.io;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import org.cactoos.iterable.Endless;
 import org.cactoos.iterable.HeadOf;
 import org.cactoos.text.TextOf;
@@ -119,4 +122,63 @@ public final class InputAsBytesTest {
         );
     }
 
+    @Test
+    public void readsInputLongerThanItSays() throws Exception {
+        final byte[] bytes = new byte[1000];
+        new Random().nextBytes(bytes);
+        MatcherAssert.assertThat(
+            new InputAsBytes(
+                new InputOf(
+                    new SequenceInputStream(
+                        new ByteArrayInputStream(bytes, 0, 5),
+                        new ByteArrayInputStream(bytes, 5, bytes.length - 5)
+                    )
+                ),
+                3
+            ).asBytes(),
+            Matchers.equalTo(bytes)
+        );
+    }
+
+    @Test
+    public void readsEmptyInput() throws Exception {
+        MatcherAssert.assertThat(
+            new InputAsBytes(new DeadInput()).asBytes(),
+            Matchers.equalTo(new byte[0])
+        );
+    }
+
+    @Test
+    public void returnsArrayOfExactSize() throws Exception {
+        final byte[] bytes = new byte[100_000];
+        new Random().nextBytes(bytes);
+        MatcherAssert.assertThat(
+            new InputAsBytes(new InputOf(bytes), 7).asBytes(),
+            Matchers.equalTo(bytes)
+        );
+    }
+
+    @Test
+    public void reusesChunksFromPool() throws Exception {
+        final byte[] bytes = new byte[10_000];
+        new Random().nextBytes(bytes);
+        final ThreadBufferPool pool = new ThreadBufferPool(16, 1L << 20);
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                new InputAsBytes(
+                    () -> new ByteArrayInputStream(bytes) {
+                        @Override
+                        public int available() {
+                            return 0;
+                        }
+                    },
+                    1000,
+                    pool
+                ).asBytes(),
+                Matchers.equalTo(bytes)
+            );
+        }
+        MatcherAssert.assertThat(pool.hits(), Matchers.greaterThan(0L));
+    }
+
 }
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -194,6 +195,18 @@ public final class InputOfTest {
         );
     }
 
+    @Test
+    public void readsDirectBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.put("Hello, buffer!".getBytes(StandardCharsets.UTF_8));
+        buffer.flip();
+        MatcherAssert.assertThat(
+            "Can't read bytes from a buffer",
+            new TextOf(new InputOf(new BytesOf(buffer))).asString(),
+            Matchers.equalTo("Hello, buffer!")
+        );
+    }
+
     @Test
     public void readsStringBuilder() throws Exception {
         final String starts = "Name it, ";
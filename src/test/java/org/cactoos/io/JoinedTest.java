@@ -23,15 +23,22 @@
  */
 package org.cactoos.io;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Input;
+import org.cactoos.iterable.Repeated;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.TextHasString;
 
 /**
  * Unit tests for {@link Joined}.
  * @since 0.36
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class JoinedTest {
     /**
@@ -52,4 +59,93 @@ public final class JoinedTest {
             new TextHasString("firstsecondthird")
         );
     }
+
+    /**
+     * Must join a lot of inputs without deep nesting.
+     * @throws Exception If an error occurs
+     */
+    @Test
+    public void joinsManyInputs() throws Exception {
+        MatcherAssert.assertThat(
+            "Cannot join many inputs",
+            new LengthOf(
+                new Joined(new Repeated<Input>(100_000, new InputOf("ab")))
+            ).intValue(),
+            Matchers.equalTo(200_000)
+        );
+    }
+
+    /**
+     * Must open every input only when the previous one is exhausted and
+     * close it right away.
+     * @throws Exception If an error occurs
+     */
+    @Test
+    public void opensInputsLazily() throws Exception {
+        final AtomicInteger open = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final Input input = () -> {
+            max.accumulateAndGet(open.incrementAndGet(), Math::max);
+            return new ByteArrayInputStream(new byte[] {1, 2, 3}) {
+                @Override
+                public void close() {
+                    open.decrementAndGet();
+                }
+            };
+        };
+        try (final InputStream stream = new Joined(
+            new Repeated<>(10, input)
+        ).stream()) {
+            MatcherAssert.assertThat(
+                "Opened more than one input before reading",
+                open.get(),
+                Matchers.equalTo(0)
+            );
+            final byte[] buf = new byte[100];
+            int total = 0;
+            while (true) {
+                final int read = stream.read(buf, 0, buf.length);
+                if (read < 0) {
+                    break;
+                }
+                total += read;
+            }
+            MatcherAssert.assertThat(
+                "Cannot read all the inputs",
+                total,
+                Matchers.equalTo(30)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Kept more than one input open",
+            max.get(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "Left an input open",
+            open.get(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    /**
+     * Must skip empty inputs.
+     * @throws Exception If an error occurs
+     */
+    @Test
+    public void skipsEmptyInputs() throws Exception {
+        MatcherAssert.assertThat(
+            "Cannot skip empty inputs",
+            new TextOf(
+                new Joined(
+                    new InputOf(""),
+                    new InputOf("a"),
+                    new InputOf(""),
+                    new InputOf(""),
+                    new InputOf("b")
+                )
+            ).asString(),
+            Matchers.equalTo("ab")
+        );
+    }
 }
@@ -93,4 +93,19 @@ public final class LengthOfTest {
         );
     }
 
+    @Test
+    public void returnsBufferToPool() {
+        final ThreadBufferPool pool = new ThreadBufferPool(1);
+        new LengthOf(new InputOf("Hello3"), 8, pool).intValue();
+        MatcherAssert.assertThat(
+            new LengthOf(new InputOf("Hello4"), 8, pool).intValue(),
+            Matchers.equalTo(6)
+        );
+        MatcherAssert.assertThat(
+            "Can't reuse the buffer from the pool",
+            pool.hits(),
+            Matchers.equalTo(1L)
+        );
+    }
+
 }
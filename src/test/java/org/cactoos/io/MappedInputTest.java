@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link MappedInput}.
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class MappedInputTest {
+
+    /**
+     * Temporary files generator.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsFile() throws Exception {
+        final byte[] content = this.random(1000);
+        MatcherAssert.assertThat(
+            new BytesOf(new MappedInput(this.file(content))).asBytes(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void readsFileInManyChunks() throws Exception {
+        final byte[] content = this.random(1000);
+        MatcherAssert.assertThat(
+            new BytesOf(new MappedInput(this.file(content), 7L)).asBytes(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void readsEmptyFile() throws Exception {
+        MatcherAssert.assertThat(
+            new BytesOf(new MappedInput(this.file(new byte[0]))).asBytes(),
+            Matchers.equalTo(new byte[0])
+        );
+    }
+
+    @Test
+    public void readsByteByByte() throws Exception {
+        final byte[] content = {(byte) 0xff, 0, 1, (byte) 0x80};
+        try (final InputStream stream = new MappedInput(
+            this.file(content), 3L
+        ).stream()) {
+            MatcherAssert.assertThat(
+                new int[] {
+                    stream.read(), stream.read(), stream.read(),
+                    stream.read(), stream.read(),
+                },
+                Matchers.equalTo(new int[] {255, 0, 1, 128, -1})
+            );
+        }
+    }
+
+    @Test
+    public void skipsAndResets() throws Exception {
+        final byte[] content = this.random(100);
+        try (final InputStream stream = new MappedInput(
+            this.file(content), 10L
+        ).stream()) {
+            MatcherAssert.assertThat(
+                "Can't skip",
+                stream.skip(55L),
+                Matchers.equalTo(55L)
+            );
+            stream.mark(0);
+            final byte[] first = new byte[5];
+            stream.read(first);
+            stream.reset();
+            final byte[] second = new byte[5];
+            stream.read(second);
+            MatcherAssert.assertThat(
+                "Can't read after reset",
+                second,
+                Matchers.allOf(
+                    Matchers.equalTo(first),
+                    Matchers.equalTo(Arrays.copyOfRange(content, 55, 60))
+                )
+            );
+            MatcherAssert.assertThat(
+                "Can't skip beyond the end",
+                stream.skip(1000L),
+                Matchers.equalTo(40L)
+            );
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failsOnWrongChunkSize() throws Exception {
+        new MappedInput(this.file(new byte[1]), 0L).stream();
+    }
+
+    /**
+     * Create a file.
+     * @param content Content of the file
+     * @return Path of it
+     * @throws Exception If fails
+     */
+    private Path file(final byte[] content) throws Exception {
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, content);
+        return path;
+    }
+
+    /**
+     * Random bytes.
+     * @param size How many
+     * @return Bytes
+     */
+    private byte[] random(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -23,6 +23,8 @@
  */
 package org.cactoos.io;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.cactoos.text.HexOf;
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
@@ -85,4 +87,18 @@ public final class Md5DigestOfTest {
         );
     }
 
+    @Test
+    public void checksumOfBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(12);
+        buffer.put("Hello World!".getBytes(StandardCharsets.UTF_8));
+        buffer.flip();
+        MatcherAssert.assertThat(
+            "Can't calculate the buffer's MD5 checksum",
+            new HexOf(new Md5DigestOf(new BytesOf(buffer))),
+            new TextHasString(
+                "ed076287532e86365e841e92bfc50d8c"
+            )
+        );
+    }
+
 }
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link MerkleDigestOf}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class MerkleDigestOfTest {
+
+    /**
+     * Temporary files and folders generator.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void hashesOneChunk() throws Exception {
+        final byte[] content = this.random(100);
+        MatcherAssert.assertThat(
+            new MerkleDigestOf(this.file(content), 100).asBytes(),
+            Matchers.equalTo(this.leaf(content))
+        );
+    }
+
+    @Test
+    public void hashesEmptyFile() throws Exception {
+        MatcherAssert.assertThat(
+            new MerkleDigestOf(this.file(new byte[0])).asBytes(),
+            Matchers.equalTo(this.leaf(new byte[0]))
+        );
+    }
+
+    @Test
+    public void hashesTreeOfChunks() throws Exception {
+        final byte[] content = this.random(250);
+        MatcherAssert.assertThat(
+            new MerkleDigestOf(this.file(content), 100).asBytes(),
+            Matchers.equalTo(
+                this.node(
+                    this.node(
+                        this.leaf(Arrays.copyOfRange(content, 0, 100)),
+                        this.leaf(Arrays.copyOfRange(content, 100, 200))
+                    ),
+                    this.leaf(Arrays.copyOfRange(content, 200, 250))
+                )
+            )
+        );
+    }
+
+    @Test
+    public void doesNotDependOnThreads() throws Exception {
+        final Path file = this.file(this.random(100_000));
+        final ForkJoinPool single = new ForkJoinPool(1);
+        final ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            MatcherAssert.assertThat(
+                new MerkleDigestOf(file, 1000, "SHA-256", single).asBytes(),
+                Matchers.equalTo(
+                    new MerkleDigestOf(file, 1000, "SHA-256", many).asBytes()
+                )
+            );
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    /**
+     * Hash of a leaf.
+     * @param chunk The chunk
+     * @return The hash
+     * @throws Exception If fails
+     */
+    private byte[] leaf(final byte[] chunk) throws Exception {
+        final MessageDigest msg = MessageDigest.getInstance("SHA-256");
+        msg.update((byte) 0);
+        msg.update(chunk);
+        return msg.digest();
+    }
+
+    /**
+     * Hash of a node.
+     * @param left Hash of the left child
+     * @param right Hash of the right child
+     * @return The hash
+     * @throws Exception If fails
+     */
+    private byte[] node(final byte[] left, final byte[] right)
+        throws Exception {
+        final MessageDigest msg = MessageDigest.getInstance("SHA-256");
+        msg.update((byte) 1);
+        msg.update(left);
+        msg.update(right);
+        return msg.digest();
+    }
+
+    /**
+     * Random bytes.
+     * @param size Amount of bytes
+     * @return The bytes
+     */
+    private byte[] random(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * File with the content.
+     * @param content The content
+     * @return The file
+     * @throws Exception If fails
+     */
+    private Path file(final byte[] content) throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, content);
+        return file;
+    }
+}
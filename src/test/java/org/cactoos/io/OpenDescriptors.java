@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.Scalar;
+
+/**
+ * Amount of file descriptors of this process, which refer to
+ * a directory or to anything inside it.
+ *
+ * <p>Both open files and inotify watches of the directory are counted.
+ * Descriptors of other directories are not, so tests running in
+ * parallel don't change the amount.</p>
+ *
+ * @since 0.37
+ */
+final class OpenDescriptors implements Scalar<Integer> {
+
+    /**
+     * The directory.
+     */
+    private final Path dir;
+
+    /**
+     * Ctor.
+     * @param path The directory
+     */
+    OpenDescriptors(final Path path) {
+        this.dir = path;
+    }
+
+    /**
+     * Whether descriptors can be seen on this platform.
+     * @return TRUE if they can
+     */
+    public boolean visible() {
+        return new File("/proc/self/fdinfo").isDirectory();
+    }
+
+    @Override
+    public Integer value() throws IOException {
+        final Path real = this.dir.toRealPath();
+        final String watch = String.format(
+            " ino:%x ", (Long) Files.getAttribute(real, "unix:ino")
+        );
+        int count = 0;
+        final String[] fds = new File("/proc/self/fd").list();
+        for (final String fdn : fds) {
+            try {
+                final Path link = Files.readSymbolicLink(
+                    new File("/proc/self/fd", fdn).toPath()
+                );
+                if (link.startsWith(real) || new String(
+                    Files.readAllBytes(
+                        new File("/proc/self/fdinfo", fdn).toPath()
+                    ),
+                    StandardCharsets.US_ASCII
+                ).contains(watch)) {
+                    ++count;
+                }
+            } catch (final IOException ex) {
+                continue;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link PrefetchedInput}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class PrefetchedInputTest {
+
+    @Test
+    public void readsAllContent() throws Exception {
+        final byte[] content = new byte[10_000];
+        new Random().nextBytes(content);
+        MatcherAssert.assertThat(
+            new BytesOf(
+                new PrefetchedInput(
+                    new InputOf(
+                        new SlowInputStream(new ByteArrayInputStream(content))
+                    ),
+                    100, 3
+                )
+            ).asBytes(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test(timeout = 10_000L)
+    public void readsAhead() throws Exception {
+        final AtomicInteger done = new AtomicInteger();
+        try (final InputStream stream = new PrefetchedInput(
+            () -> new CountingStream(
+                new ByteArrayInputStream(new byte[1000]), done
+            ),
+            10, 3
+        ).stream()) {
+            stream.read();
+            while (done.get() < 30) {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            }
+            TimeUnit.MILLISECONDS.sleep(100L);
+            MatcherAssert.assertThat(done.get(), Matchers.equalTo(30));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void reportsError() throws Exception {
+        new LengthOf(
+            new PrefetchedInput(
+                () -> new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("broken");
+                    }
+                }
+            )
+        ).value();
+    }
+
+    @Test(timeout = 10_000L)
+    public void reportsUncheckedError() throws Exception {
+        final byte[] head = new byte[8];
+        IOException error = null;
+        try {
+            new LengthOf(
+                new PrefetchedInput(
+                    () -> new ByteArrayInputStream(head) {
+                        @Override
+                        public synchronized int read(final byte[] buf,
+                            final int off, final int len) {
+                            if (this.available() == 0) {
+                                throw new UncheckedIOException(
+                                    new IOException("broken")
+                                );
+                            }
+                            return super.read(buf, off, len);
+                        }
+                    },
+                    8, 2
+                )
+            ).value();
+        } catch (final IOException ex) {
+            error = ex;
+        }
+        MatcherAssert.assertThat(
+            error.getCause(),
+            Matchers.instanceOf(UncheckedIOException.class)
+        );
+    }
+
+    @Test(timeout = 10_000L)
+    public void closesOriginWhenClosed() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream stream = new PrefetchedInput(
+            () -> new ByteArrayInputStream(new byte[1000]) {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            },
+            10, 2
+        ).stream();
+        stream.read();
+        stream.close();
+        while (!closed.get()) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        MatcherAssert.assertThat(closed.get(), Matchers.is(true));
+    }
+
+    /**
+     * Stream, which counts bytes read.
+     *
+     * @since 0.37
+     */
+    private static final class CountingStream extends InputStream {
+
+        /**
+         * The original stream.
+         */
+        private final InputStream origin;
+
+        /**
+         * Bytes read.
+         */
+        private final AtomicInteger count;
+
+        /**
+         * Ctor.
+         * @param stream The original stream
+         * @param counter Bytes read
+         */
+        CountingStream(final InputStream stream, final AtomicInteger counter) {
+            super();
+            this.origin = stream;
+            this.count = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int data = this.origin.read();
+            if (data >= 0) {
+                this.count.incrementAndGet();
+            }
+            return data;
+        }
+
+        @Override
+        public int read(final byte[] buf, final int off, final int len)
+            throws IOException {
+            final int read = this.origin.read(buf, off, len);
+            if (read > 0) {
+                this.count.addAndGet(read);
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ReplicatedOutput}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ReplicatedOutputTest {
+
+    @Test
+    public void writesAllOutputs() throws Exception {
+        final byte[] content = new byte[100_000];
+        new Random().nextBytes(content);
+        final ByteArrayOutputStream first = new ByteArrayOutputStream();
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        final ByteArrayOutputStream third = new ByteArrayOutputStream();
+        try (final OutputStream out = new ReplicatedOutput(
+            1000,
+            new OutputTo(first),
+            new OutputTo(second),
+            new OutputTo(third)
+        ).stream()) {
+            new LengthOf(
+                new TeeInput(new InputOf(content), new OutputTo(out))
+            ).intValue();
+        }
+        MatcherAssert.assertThat(
+            first.toByteArray(),
+            Matchers.equalTo(content)
+        );
+        MatcherAssert.assertThat(
+            second.toByteArray(),
+            Matchers.equalTo(content)
+        );
+        MatcherAssert.assertThat(
+            third.toByteArray(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test(timeout = 10_000L)
+    public void doesNotWaitForSlowOutputWithinLag() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ByteArrayOutputStream fast = new ByteArrayOutputStream();
+        final ByteArrayOutputStream slow = new ByteArrayOutputStream();
+        try (final OutputStream out = new ReplicatedOutput(
+            1000,
+            new OutputTo(fast),
+            () -> new BlockedStream(slow, latch)
+        ).stream()) {
+            for (int idx = 0; idx < 10; ++idx) {
+                out.write(new byte[100]);
+            }
+            while (fast.size() < 1000) {
+                Thread.yield();
+            }
+            MatcherAssert.assertThat(slow.size(), Matchers.equalTo(0));
+            latch.countDown();
+        }
+        MatcherAssert.assertThat(slow.size(), Matchers.equalTo(1000));
+    }
+
+    @Test(timeout = 10_000L)
+    public void flushesAllOutputs() throws Exception {
+        final ByteArrayOutputStream first = new ByteArrayOutputStream();
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        try (final OutputStream out = new ReplicatedOutput(
+            new OutputTo(first), new OutputTo(second)
+        ).stream()) {
+            out.write(new byte[] {1, 2, 3});
+            out.flush();
+            MatcherAssert.assertThat(first.size(), Matchers.equalTo(3));
+            MatcherAssert.assertThat(second.size(), Matchers.equalTo(3));
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void throwsErrorOfOutput() throws Exception {
+        final CountDownLatch closed = new CountDownLatch(1);
+        IOException error = null;
+        try (final OutputStream out = new ReplicatedOutput(
+            10,
+            () -> new OutputStream() {
+                @Override
+                public void write(final int data) throws IOException {
+                    throw new IOException("Disk is full");
+                }
+            },
+            () -> new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    closed.countDown();
+                }
+            }
+        ).stream()) {
+            for (int idx = 0; idx < 100; ++idx) {
+                out.write(idx);
+            }
+        } catch (final IOException ex) {
+            error = ex;
+        }
+        MatcherAssert.assertThat(error, Matchers.notNullValue());
+        MatcherAssert.assertThat(closed.getCount(), Matchers.equalTo(0L));
+    }
+
+    @Test(timeout = 10_000L)
+    public void throwsUncheckedErrorOfOutput() throws Exception {
+        IOException error = null;
+        try (final OutputStream out = new ReplicatedOutput(
+            10,
+            () -> new OutputStream() {
+                @Override
+                public void write(final int data) {
+                    throw new IllegalStateException("Broken output");
+                }
+            }
+        ).stream()) {
+            for (int idx = 0; idx < 100; ++idx) {
+                out.write(new byte[10]);
+            }
+        } catch (final IOException ex) {
+            error = ex;
+        }
+        MatcherAssert.assertThat(
+            error.getCause(),
+            Matchers.instanceOf(IllegalStateException.class)
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWrongLag() throws Exception {
+        new ReplicatedOutput(0, new OutputTo(new ByteArrayOutputStream()))
+            .stream();
+    }
+
+    /**
+     * Stream, which writes only when the latch is open.
+     */
+    private static final class BlockedStream extends OutputStream {
+
+        /**
+         * The original stream.
+         */
+        private final OutputStream origin;
+
+        /**
+         * The latch.
+         */
+        private final CountDownLatch latch;
+
+        /**
+         * Ctor.
+         * @param stream The original stream
+         * @param ltch The latch
+         */
+        BlockedStream(final OutputStream stream, final CountDownLatch ltch) {
+            super();
+            this.origin = stream;
+            this.latch = ltch;
+        }
+
+        @Override
+        public void write(final int data) throws IOException {
+            this.write(new byte[] {(byte) data}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] buf, final int off, final int len)
+            throws IOException {
+            try {
+                this.latch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+            this.origin.write(buf, off, len);
+        }
+    }
+}
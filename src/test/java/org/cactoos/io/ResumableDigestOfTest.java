@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.Bytes;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link ResumableDigestOf}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class ResumableDigestOfTest {
+
+    /**
+     * Temporary files and folders generator.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void calculatesDigestOfGrowingFile() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        this.append(file, "first line\n");
+        final Bytes digest = new ResumableDigestOf(file, "SHA-256");
+        MatcherAssert.assertThat(
+            "Can't calculate the digest of the file",
+            digest.asBytes(),
+            Matchers.equalTo(new Sha256DigestOf(new InputOf(file)).asBytes())
+        );
+        this.append(file, "second line\n");
+        MatcherAssert.assertThat(
+            "Can't calculate the digest of the grown file",
+            digest.asBytes(),
+            Matchers.equalTo(new Sha256DigestOf(new InputOf(file)).asBytes())
+        );
+    }
+
+    @Test
+    public void readsOnlyAppendedBytes() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        this.append(file, "abc");
+        final Bytes digest = new ResumableDigestOf(file, 1, "MD5");
+        digest.asBytes();
+        try (final FileChannel channel = FileChannel.open(
+            file, StandardOpenOption.WRITE
+        )) {
+            channel.write(StandardCharsets.UTF_8.encode("xyz"), 0L);
+        }
+        this.append(file, "def");
+        MatcherAssert.assertThat(
+            digest.asBytes(),
+            Matchers.equalTo(new Md5DigestOf(new InputOf("abcdef")).asBytes())
+        );
+    }
+
+    @Test
+    public void startsAgainWhenFileIsTruncated() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        this.append(file, "long content");
+        final Bytes digest = new ResumableDigestOf(file.toFile(), "SHA-1");
+        digest.asBytes();
+        Files.write(file, "short".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            digest.asBytes(),
+            Matchers.equalTo(new Sha1DigestOf(new InputOf("short")).asBytes())
+        );
+    }
+
+    /**
+     * Append text to the file.
+     * @param file The file
+     * @param text The text
+     * @throws Exception If fails
+     */
+    private void append(final Path file, final String text)
+        throws Exception {
+        Files.write(
+            file, text.getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link SameContent}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class SameContentTest {
+
+    @Test
+    public void findsSameContent() throws Exception {
+        final byte[] content = this.random(1000);
+        MatcherAssert.assertThat(
+            new SameContent(
+                new InputOf(content), new InputOf(content.clone()), 64, false
+            ).value(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    public void findsDifferentByte() throws Exception {
+        final byte[] content = this.random(1000);
+        final byte[] other = content.clone();
+        other[777] = (byte) (other[777] + 1);
+        MatcherAssert.assertThat(
+            new SameContent(
+                new InputOf(content), new InputOf(other), 64, false
+            ).value(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void findsDifferentLength() throws Exception {
+        MatcherAssert.assertThat(
+            new SameContent(
+                new InputOf("same prefix"), new InputOf("same prefix!")
+            ).value(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void comparesEmptyInputs() throws Exception {
+        MatcherAssert.assertThat(
+            new SameContent(new InputOf(""), new InputOf("")).value(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    public void comparesSecrets() throws Exception {
+        final byte[] content = this.random(100);
+        final byte[] other = content.clone();
+        other[0] = (byte) (other[0] + 1);
+        MatcherAssert.assertThat(
+            "Can't see the same secret",
+            new SameContent(
+                new InputOf(content), new InputOf(content.clone()), 16, true
+            ).value(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Can't see a different secret",
+            new SameContent(
+                new InputOf(content), new InputOf(other), 16, true
+            ).value(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "Can't see a longer secret",
+            new SameContent(
+                new InputOf(content), new InputOf(this.random(101)), 16, true
+            ).value(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void readsInputsInChunks() throws Exception {
+        final byte[] content = this.random(1000);
+        MatcherAssert.assertThat(
+            new SameContent(
+                new InputOf(
+                    new SlowInputStream(new ByteArrayInputStream(content))
+                ),
+                new InputOf(content),
+                100, false
+            ).value(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyChunk() {
+        new SameContent(new InputOf("a"), new InputOf("a"), 0, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeChunk() {
+        new SameContent(new InputOf("a"), new InputOf("a"), -1, true);
+    }
+
+    /**
+     * Random bytes.
+     * @param size Amount of bytes
+     * @return The bytes
+     */
+    private byte[] random(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
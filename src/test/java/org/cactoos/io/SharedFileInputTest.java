@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link SharedFileInput}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class SharedFileInputTest {
+
+    /**
+     * Temporary files and directories.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsFileManyTimes() throws Exception {
+        final File file = this.folder.newFile();
+        Files.write(file.toPath(), "Hello, world!".getBytes());
+        try (final SharedFileInput input = new SharedFileInput(file)) {
+            MatcherAssert.assertThat(
+                new BytesOf(input).asBytes(),
+                Matchers.equalTo("Hello, world!".getBytes())
+            );
+            MatcherAssert.assertThat(
+                new BytesOf(input).asBytes(),
+                Matchers.equalTo("Hello, world!".getBytes())
+            );
+        }
+    }
+
+    @Test(timeout = 30_000L)
+    public void readsFileInParallel() throws Exception {
+        final byte[] content = new byte[100_000];
+        new Random().nextBytes(content);
+        final File file = this.folder.newFile();
+        Files.write(file.toPath(), content);
+        final ExecutorService service = Executors.newFixedThreadPool(32);
+        try (final SharedFileInput input = new SharedFileInput(file)) {
+            final Collection<Callable<byte[]>> tasks = new ArrayList<>(32);
+            for (int idx = 0; idx < 32; ++idx) {
+                tasks.add(() -> new BytesOf(input, 1000).asBytes());
+            }
+            for (final Future<byte[]> future : service.invokeAll(tasks)) {
+                MatcherAssert.assertThat(
+                    future.get(),
+                    Matchers.equalTo(content)
+                );
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void closesUnusedInputOfAbsentFile() throws Exception {
+        new SharedFileInput(new File(this.folder.getRoot(), "no.txt"))
+            .close();
+    }
+
+    @Test(expected = IOException.class)
+    public void failsToReadWhenClosed() throws Exception {
+        final SharedFileInput input = new SharedFileInput(
+            this.folder.newFile()
+        );
+        input.close();
+        input.stream();
+    }
+
+    @Test
+    public void skipsAndResets() throws Exception {
+        final File file = this.folder.newFile();
+        Files.write(file.toPath(), new byte[] {1, 2, 3, 4, 5});
+        try (final SharedFileInput input = new SharedFileInput(file);
+            final InputStream stream = input.stream()) {
+            MatcherAssert.assertThat(stream.skip(2L), Matchers.equalTo(2L));
+            stream.mark(10);
+            MatcherAssert.assertThat(stream.read(), Matchers.equalTo(3));
+            MatcherAssert.assertThat(stream.available(), Matchers.equalTo(2));
+            stream.reset();
+            MatcherAssert.assertThat(stream.read(), Matchers.equalTo(3));
+            MatcherAssert.assertThat(stream.skip(10L), Matchers.equalTo(2L));
+            MatcherAssert.assertThat(stream.read(), Matchers.equalTo(-1));
+        }
+    }
+}
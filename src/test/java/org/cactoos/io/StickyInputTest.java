@@ -25,6 +25,15 @@ package org.cactoos.io;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.cactoos.Input;
 import org.cactoos.func.RepeatedFunc;
 import org.cactoos.text.TextOf;
@@ -39,6 +48,7 @@ import org.llorllale.cactoos.matchers.TextHasString;
  * @since 0.6
  * @checkstyle JavadocMethodCheck (500 lines)
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class StickyInputTest {
 
@@ -111,4 +121,77 @@ public final class StickyInputTest {
         );
     }
 
+    @Test
+    public void readsAgainAfterTimeToLive() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        final Input input = new StickyInput(this.counted(reads), 0L);
+        new TextOf(input).asString();
+        new TextOf(input).asString();
+        MatcherAssert.assertThat(reads.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void reusesContentWithinTimeToLive() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        final Input input = new StickyInput(this.counted(reads), 60_000L);
+        new TextOf(input).asString();
+        new TextOf(input).asString();
+        MatcherAssert.assertThat(reads.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void readsAgainWhenVersionChanges() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        final AtomicLong version = new AtomicLong();
+        final Input input = new StickyInput(this.counted(reads), version::get);
+        new TextOf(input).asString();
+        new TextOf(input).asString();
+        MatcherAssert.assertThat(reads.get(), Matchers.equalTo(1));
+        version.incrementAndGet();
+        new TextOf(input).asString();
+        new TextOf(input).asString();
+        MatcherAssert.assertThat(reads.get(), Matchers.equalTo(2));
+    }
+
+    @Test(timeout = 10_000L)
+    public void sharesOneReadingBetweenThreads() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        final Input input = new StickyInput(
+            () -> {
+                reads.incrementAndGet();
+                TimeUnit.MILLISECONDS.sleep(100L);
+                return new InputOf("shared").stream();
+            },
+            60_000L
+        );
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            final Collection<Callable<String>> tasks = new ArrayList<>(8);
+            for (int idx = 0; idx < 8; ++idx) {
+                tasks.add(() -> new TextOf(input).asString());
+            }
+            for (final Future<String> future : service.invokeAll(tasks)) {
+                MatcherAssert.assertThat(
+                    future.get(),
+                    Matchers.equalTo("shared")
+                );
+            }
+        } finally {
+            service.shutdown();
+        }
+        MatcherAssert.assertThat(reads.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Input, which counts how many times it is read.
+     * @param reads The counter
+     * @return Input
+     */
+    private Input counted(final AtomicInteger reads) {
+        return () -> {
+            reads.incrementAndGet();
+            return new InputOf("content").stream();
+        };
+    }
+
 }
@@ -23,19 +23,31 @@
  */
 package org.cactoos.io;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Random;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Tests for {@link TailInput}.
  * @since 0.30
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class TailInputTest {
 
+    /**
+     * Temporary files and folders generator.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void tailsOnLongStream() throws Exception {
         final int size = 4;
@@ -110,6 +122,38 @@ public final class TailInputTest {
         ).asBytes();
     }
 
+    @Test
+    public void tailsFile() throws Exception {
+        final byte[] bytes = this.generate(10_000);
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, bytes);
+        MatcherAssert.assertThat(
+            new BytesOf(new TailInput(file, 100)).asBytes(),
+            Matchers.equalTo(Arrays.copyOfRange(bytes, 9900, bytes.length))
+        );
+    }
+
+    @Test
+    public void tailsFileShorterThanTail() throws Exception {
+        final byte[] bytes = this.generate(10);
+        final File file = this.folder.newFile();
+        Files.write(file.toPath(), bytes);
+        MatcherAssert.assertThat(
+            new BytesOf(new TailInput(file, 100)).asBytes(),
+            Matchers.equalTo(bytes)
+        );
+    }
+
+    @Test
+    public void tailsEmptyFile() throws Exception {
+        MatcherAssert.assertThat(
+            new BytesOf(
+                new TailInput(this.folder.newFile().toPath(), 100)
+            ).asBytes(),
+            Matchers.equalTo(new byte[0])
+        );
+    }
+
     /**
      * Generate random byte array.
      * @param size Size of array
@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link TeeFileInputStream}.
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class TeeFileInputStreamTest {
+
+    /**
+     * Temporary files generator.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void copiesWhileReading() throws Exception {
+        final String content = "Hello, товарищ file channel!";
+        final Path source = this.source(content);
+        final File target = this.folder.newFile();
+        MatcherAssert.assertThat(
+            "Can't read and copy a file",
+            new TextOf(
+                new InputOf(this.stream(source, target.toPath()))
+            ).asString(),
+            Matchers.equalTo(content)
+        );
+        MatcherAssert.assertThat(
+            "Can't copy the content to the target",
+            new TextOf(target).asString(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void copiesWhileReadingByteByByte() throws Exception {
+        final String content = "Hello, byte by byte!";
+        final File target = this.folder.newFile();
+        try (final InputStream stream = this.stream(
+            this.source(content), target.toPath()
+        )) {
+            while (stream.read() >= 0) {
+                continue;
+            }
+        }
+        MatcherAssert.assertThat(
+            new TextOf(target).asString(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void copiesWhileSkipping() throws Exception {
+        final String content = "Hello, skipped bytes!";
+        final File target = this.folder.newFile();
+        try (final InputStream stream = this.stream(
+            this.source(content), target.toPath()
+        )) {
+            MatcherAssert.assertThat(
+                "Can't skip all the bytes",
+                stream.skip(Long.MAX_VALUE),
+                Matchers.equalTo((long) content.length())
+            );
+            MatcherAssert.assertThat(
+                "Can't see the end of the source",
+                stream.read(),
+                Matchers.equalTo(-1)
+            );
+        }
+        MatcherAssert.assertThat(
+            new TextOf(target).asString(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void createsParentDirectoriesOfTarget() throws Exception {
+        final String content = "Hello, new directory!";
+        final File target = new File(
+            new File(this.folder.getRoot(), "new"), "target.txt"
+        );
+        new LengthOf(
+            new TeeInput(this.source(content).toFile(), target)
+        ).intValue();
+        MatcherAssert.assertThat(
+            new TextOf(target).asString(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void closesSourceWhenTargetCantBeOpened() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final OpenDescriptors fds = new OpenDescriptors(dir);
+        Assume.assumeTrue(fds.visible());
+        final Path source = dir.resolve("source.txt");
+        Files.write(source, "Hello, closed source!".getBytes());
+        final Path target = this.folder.newFolder().toPath();
+        for (int idx = 0; idx < 50; ++idx) {
+            try {
+                new TeeInput(source, target).stream().close();
+            } catch (final IOException ex) {
+                continue;
+            }
+        }
+        MatcherAssert.assertThat(fds.value(), Matchers.equalTo(0));
+    }
+
+    /**
+     * Create a source file.
+     * @param content Content of the file
+     * @return Path of it
+     * @throws Exception If fails
+     */
+    private Path source(final String content) throws Exception {
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    /**
+     * Open a stream from the source to the target.
+     * @param source The source
+     * @param target The target
+     * @return Stream
+     * @throws Exception If fails
+     */
+    private InputStream stream(final Path source, final Path target)
+        throws Exception {
+        return new TeeFileInputStream(
+            FileChannel.open(source, StandardOpenOption.READ),
+            FileChannel.open(
+                target,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )
+        );
+    }
+}
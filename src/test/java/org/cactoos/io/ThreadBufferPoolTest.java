@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ThreadBufferPool}.
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ThreadBufferPoolTest {
+
+    @Test
+    public void reusesReleasedBuffer() {
+        final ThreadBufferPool pool = new ThreadBufferPool(2);
+        final byte[] first = pool.acquire(16);
+        pool.release(first);
+        MatcherAssert.assertThat(
+            "Can't reuse the buffer",
+            pool.acquire(16),
+            Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(
+            "Can't count hits and misses",
+            new long[] {pool.hits(), pool.misses()},
+            Matchers.equalTo(new long[] {1L, 1L})
+        );
+    }
+
+    @Test
+    public void makesBufferOfRequestedSize() {
+        final ThreadBufferPool pool = new ThreadBufferPool(2);
+        pool.release(pool.acquire(16));
+        MatcherAssert.assertThat(
+            pool.acquire(8).length,
+            Matchers.equalTo(8)
+        );
+        MatcherAssert.assertThat(
+            pool.misses(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    public void keepsLimitedAmountOfBuffers() {
+        final ThreadBufferPool pool = new ThreadBufferPool(1);
+        final byte[] first = pool.acquire(4);
+        final byte[] second = pool.acquire(4);
+        pool.release(first);
+        pool.release(second);
+        pool.acquire(4);
+        MatcherAssert.assertThat(
+            "Can't take the kept buffer",
+            pool.hits(),
+            Matchers.equalTo(1L)
+        );
+        pool.acquire(4);
+        MatcherAssert.assertThat(
+            "Kept more buffers than allowed",
+            pool.misses(),
+            Matchers.equalTo(3L)
+        );
+    }
+
+    @Test
+    public void doesNotShareBuffersBetweenThreads() throws Exception {
+        final ThreadBufferPool pool = new ThreadBufferPool(2);
+        pool.release(pool.acquire(4));
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            service.submit(() -> pool.release(pool.acquire(4))).get();
+        } finally {
+            service.shutdown();
+            service.awaitTermination(1L, TimeUnit.MINUTES);
+        }
+        MatcherAssert.assertThat(
+            pool.misses(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    public void doesNotKeepBuffersOverBudget() {
+        final ThreadBufferPool pool = new ThreadBufferPool(4, 100L);
+        final byte[] small = pool.acquire(60);
+        final byte[] other = pool.acquire(60);
+        pool.release(pool.acquire(1000));
+        pool.release(small);
+        pool.release(other);
+        pool.acquire(1000);
+        pool.acquire(60);
+        pool.acquire(60);
+        MatcherAssert.assertThat(
+            "Kept more bytes than allowed",
+            new long[] {pool.hits(), pool.misses()},
+            Matchers.equalTo(new long[] {1L, 5L})
+        );
+    }
+
+    @Test
+    public void keepsDefaultBuffersWithinBudget() {
+        ThreadBufferPool.DEFAULT.release(new byte[1 << 20]);
+        final long misses = ThreadBufferPool.DEFAULT.misses();
+        ThreadBufferPool.DEFAULT.acquire(1 << 20);
+        MatcherAssert.assertThat(
+            "Kept a buffer over the budget",
+            ThreadBufferPool.DEFAULT.misses(),
+            Matchers.equalTo(misses + 1L)
+        );
+    }
+}
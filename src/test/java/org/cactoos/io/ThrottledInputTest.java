@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2018 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ThrottledInput}.
+ *
+ * @since 0.37
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ThrottledInputTest {
+
+    @Test
+    public void readsAllContent() throws Exception {
+        final byte[] content = new byte[5000];
+        new Random().nextBytes(content);
+        MatcherAssert.assertThat(
+            new BytesOf(
+                new ThrottledInput(new InputOf(content), 1L << 20)
+            ).asBytes(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    public void readsNoFasterThanRate() throws Exception {
+        final long start = System.nanoTime();
+        new LengthOf(
+            new ThrottledInput(
+                new InputOf(new byte[3000]), new TokenBucket(10_000L, 1000L)
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+            Matchers.greaterThanOrEqualTo(190L)
+        );
+    }
+
+    @Test
+    public void sharesBucket() throws Exception {
+        final TokenBucket bucket = new TokenBucket(10_000L, 1000L);
+        final long start = System.nanoTime();
+        new LengthOf(
+            new ThrottledInput(new InputOf(new byte[1500]), bucket)
+        ).value();
+        new LengthOf(
+            new ThrottledInput(new InputOf(new byte[1500]), bucket)
+        ).value();
+        MatcherAssert.assertThat(
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+            Matchers.greaterThanOrEqualTo(190L)
+        );
+    }
+}
@@ -24,12 +24,16 @@
 
 package org.cactoos.io;
 
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -39,6 +43,7 @@ import org.junit.rules.TemporaryFolder;
  *
  * @since 0.29
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class ZipTest {
     /**
@@ -71,4 +76,57 @@ public final class ZipTest {
             );
         }
     }
+
+    @Test
+    public void zipsContentOfFiles() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final byte[] content = new byte[100_000];
+        new Random().nextBytes(content);
+        Files.write(dir.resolve("big.bin"), content);
+        try (final ZipInputStream input = new ZipInputStream(
+            new Zip(new Directory(dir)).stream()
+        )) {
+            ZipEntry entry = input.getNextEntry();
+            while (!entry.getName().endsWith("big.bin")) {
+                entry = input.getNextEntry();
+            }
+            MatcherAssert.assertThat(
+                new BytesOf(new InputOf(input)).asBytes(),
+                Matchers.equalTo(content)
+            );
+        }
+    }
+
+    @Test
+    public void zipsWithCompressionLevel() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        Files.write(dir.resolve("zeros.bin"), new byte[100_000]);
+        MatcherAssert.assertThat(
+            new LengthOf(
+                new Zip(new Directory(dir), Deflater.BEST_COMPRESSION)
+            ).longValue(),
+            Matchers.lessThan(
+                new LengthOf(
+                    new Zip(new Directory(dir), Deflater.NO_COMPRESSION)
+                ).longValue()
+            )
+        );
+    }
+
+    @Test
+    public void releasesDirectoryWhenClosedEarly() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final OpenDescriptors fds = new OpenDescriptors(dir);
+        Assume.assumeTrue(fds.visible());
+        dir.resolve("a/b").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/c.txt"), new byte[100_000]);
+        for (int idx = 0; idx < 50; ++idx) {
+            try (final InputStream stream = new Zip(
+                new Directory(dir)
+            ).stream()) {
+                stream.read();
+            }
+        }
+        MatcherAssert.assertThat(fds.value(), Matchers.equalTo(0));
+    }
 }
@@ -23,7 +23,9 @@
  */
 package org.cactoos.scalar;
 
+import java.nio.ByteBuffer;
 import org.cactoos.Bytes;
+import org.cactoos.io.BytesOf;
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.ScalarHasValue;
@@ -96,6 +98,45 @@ public final class EqualityTest {
         );
     }
 
+    @Test
+    public void comparesBuffersFromTheirPositions() throws Exception {
+        final ByteBuffer left = ByteBuffer.allocateDirect(3);
+        left.put(new byte[] {9, 1, 2});
+        left.flip();
+        left.get();
+        MatcherAssert.assertThat(
+            new Equality<>(
+                new BytesOf(left), new BytesOf((byte) 1, (byte) 2)
+            ),
+            new ScalarHasValue<>(0)
+        );
+    }
+
+    @Test
+    public void comparesLongBytesFromTheEnd() throws Exception {
+        final byte[] left = new byte[21];
+        final byte[] right = new byte[21];
+        left[2] = 5;
+        right[2] = 3;
+        left[19] = 1;
+        right[19] = 2;
+        MatcherAssert.assertThat(
+            new Equality<>(new BytesOf(left), new BytesOf(right)),
+            new ScalarHasValue<>(-1)
+        );
+    }
+
+    @Test
+    public void findsDifferenceInFirstBytes() throws Exception {
+        final byte[] left = new byte[17];
+        final byte[] right = new byte[17];
+        left[0] = 1;
+        MatcherAssert.assertThat(
+            new Equality<>(new BytesOf(left), new BytesOf(right)),
+            new ScalarHasValue<>(1)
+        );
+    }
+
     /**
      * Weight.
      */